@@ -1,5 +1,6 @@
 package com.aipaas.anycloud.configuration.bean;
 
+import com.aipaas.anycloud.util.KubernetesFieldFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.RequiredArgsConstructor;
@@ -95,6 +96,9 @@ public class BeanConfig {
 		ObjectMapper mapper = new ObjectMapper();
 		mapper.registerModule(new JavaTimeModule());
 		mapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		// 쿠버네티스 리소스 직렬화 시 managedFields 등 불필요한 필드 제외
+		mapper.setAnnotationIntrospector(KubernetesFieldFilter.introspector());
+		mapper.setFilterProvider(KubernetesFieldFilter.provider(null));
 		return mapper;
 	}
 }
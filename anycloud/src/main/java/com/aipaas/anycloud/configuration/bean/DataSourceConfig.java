@@ -0,0 +1,95 @@
+package com.aipaas.anycloud.configuration.bean;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <pre>
+ * ClassName : DataSourceConfig
+ * Type : class
+ * Description : 읽기 전용 트랜잭션을 replica DB로 보내기 위한 DataSource 설정 클래스입니다.
+ *  - spring.datasource.replica.url이 설정된 경우에만 적용 (없으면 기본 DataSource 하나만 사용)
+ *  - primary: spring.datasource.*, spring.datasource.hikari.*
+ *  - replica: spring.datasource.replica.*, spring.datasource.replica.hikari.*
+ *  - @Transactional(readOnly = true) 트랜잭션은 replica, 그 외는 primary로 연결
+ *  - 트랜잭션 속성이 정해진 뒤 첫 쿼리 시점에 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감쌈
+ * Related : ClusterRepository, HelmRepoRepository
+ * </pre>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class DataSourceConfig {
+
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource() {
+		HikariDataSource dataSource = primaryDataSourceProperties().initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = replicaDataSourceProperties().initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+		ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource();
+		routing.setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+		routing.setDefaultTargetDataSource(primaryDataSource);
+		routing.afterPropertiesSet();
+		log.info("Read-only transactions are routed to replica datasource {}", replicaDataSource.getJdbcUrl());
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+
+	private enum Route {
+		PRIMARY, REPLICA
+	}
+
+	/**
+	 * 현재 트랜잭션이 읽기 전용이면 replica, 그 외(트랜잭션 밖 포함)는 primary를 선택합니다.
+	 */
+	private static final class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+		@Override
+		protected Object determineCurrentLookupKey() {
+			return TransactionSynchronizationManager.isActualTransactionActive()
+				&& TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+		}
+	}
+}
@@ -1,8 +1,16 @@
 package com.aipaas.anycloud.configuration.bean;
+
+import com.aipaas.anycloud.service.KubeService.RawStream;
+import java.util.concurrent.Callable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 /**
  * <pre>
@@ -24,4 +32,26 @@ public class WebConfig implements WebMvcConfigurer {
           .allowCredentials(true)
           .maxAge(3600);
   }
-}
\ No newline at end of file
+
+  /**
+   * StreamingResponseBody 등 비동기 응답은 요청마다 가상 스레드에서 실행합니다.
+   * 기본 applicationTaskExecutor(core 8, 무제한 큐)를 쓰면 실시간 로그 스트림이 스레드를 오래 점유하여
+   * 9번째 스트림부터 큐에서 대기하고, @Async 작업과도 스레드를 나눠 쓰게 됩니다.
+   */
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-async-");
+    executor.setVirtualThreads(true);
+    configurer.setTaskExecutor(executor);
+    // 요청이 완료/시간 초과/오류로 끝나면 본문 실행 여부와 관계없이 스트림 자원을 반환
+    configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+      @Override
+      public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        Object stream = request.getAttribute(RawStream.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (stream instanceof RawStream rawStream) {
+          rawStream.release();
+        }
+      }
+    });
+  }
+}
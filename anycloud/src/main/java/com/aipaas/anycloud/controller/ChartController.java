@@ -36,6 +36,24 @@ public class ChartController {
 
     private final ChartService chartService;
 
+    @GetMapping("/search")
+    @Operation(summary = "차트 검색", description = "등록된 모든 Helm repository의 차트를 이름, 키워드, 설명으로 검색합니다. 공백으로 구분된 단어는 모두 일치해야 하며, 접두어와 이름 중간 일치도 검색합니다. 결과는 점수 순으로 정렬됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "차트 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어가 없거나 페이지 번호가 잘못됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<ResultResponse> searchCharts(
+            @Parameter(description = "검색어", required = true, example = "nginx") @RequestParam String q,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (선택사항, 없으면 기본값)", example = "20") @RequestParam(required = false) Integer size) {
+
+        log.info("Searching charts: {}, page: {}, size: {}", q, page, size);
+
+        ChartSearchDto searchResult = chartService.searchCharts(q, page, size);
+        return ResponseEntity.ok(ResultResponse.of(SuccessCode.OK, searchResult));
+    }
+
     @GetMapping("/{repoName}")
     @Operation(summary = "차트 목록 조회", description = "DB에서 repoName로 RepositoryEntity 조회 후 해당 url에서 index.yaml을 다운로드하여 차트 목록을 반환합니다.")
     @ApiResponses(value = {
@@ -2,6 +2,10 @@ package com.aipaas.anycloud.controller;
 
 import com.aipaas.anycloud.model.dto.request.CreateClusterDto;
 import com.aipaas.anycloud.model.dto.request.UpdateClusterDto;
+import com.aipaas.anycloud.model.dto.response.ClusterProbeDto;
+import com.aipaas.anycloud.model.dto.response.ClusterProbeStatsDto;
+import com.aipaas.anycloud.model.dto.response.ClusterStatusHistoryDto;
+import com.aipaas.anycloud.model.dto.response.ClusterSummaryDto;
 import com.aipaas.anycloud.model.entity.ClusterEntity;
 import com.aipaas.anycloud.service.ClusterService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,8 +45,8 @@ public class ClusterController {
 	 *         <p>
 	 */
 	@GetMapping("/clusters")
-	@Operation(summary = "클러스터 목록 조회", description = "클러스터 전체 목록을 조회합니다.")
-	public ResponseEntity<List<ClusterEntity>> getClusters() {
+	@Operation(summary = "클러스터 목록 조회", description = "클러스터 전체 목록을 조회합니다. 인증서, 키, 토큰 등 접속 정보는 포함하지 않습니다.")
+	public ResponseEntity<List<ClusterSummaryDto>> getClusters() {
 		return new ResponseEntity<>(clusterService.getClusters(),
 				new HttpHeaders(),
 				HttpStatus.OK);
@@ -157,4 +161,53 @@ public class ClusterController {
 				new HttpHeaders(),
 				HttpStatus.OK);
 	}
+
+	/**
+	 * [ClusterController] 클러스터 상태 점검 결과 조회 함수
+	 *
+	 * @return 클러스터별 마지막 상태 점검 결과(상태, 버전, 소요 시간)를 조회합니다.
+	 *         <p>
+	 */
+	@GetMapping("/clusters/probes")
+	@Operation(summary = "클러스터 상태 점검 결과 조회", description = "클러스터별 마지막 상태 점검 결과와 소요 시간을 조회합니다.")
+	public ResponseEntity<List<ClusterProbeDto>> getClusterProbes() {
+		return new ResponseEntity<>(clusterService.getClusterProbes(),
+				new HttpHeaders(),
+				HttpStatus.OK);
+	}
+
+	/**
+	 * [ClusterController] 클러스터 상태 변경 이력 조회 함수
+	 *
+	 * @param clusterName 클러스터 이름
+	 * @return 클러스터의 상태/버전 변경 이력을 최근 순으로 조회합니다.
+	 *         <p>
+	 */
+	@GetMapping("/cluster/{cluster_name}/status-history")
+	@Operation(summary = "클러스터 상태 변경 이력 조회", description = "클러스터의 상태/버전 변경 이력을 최근 순으로 조회합니다.")
+	public ResponseEntity<List<ClusterStatusHistoryDto>> getClusterStatusHistory(
+			@PathVariable("cluster_name") String clusterName) {
+		return new ResponseEntity<>(clusterService.getClusterStatusHistory(clusterName),
+				new HttpHeaders(),
+				HttpStatus.OK);
+	}
+
+	/**
+	 * [ClusterController] 클러스터 상태 점검 통계 조회 함수
+	 *
+	 * @param clusterName 클러스터 이름
+	 * @param windows     통계 기간 목록 (예: 5m,1h,24h)
+	 * @return 기간별 가용성(%)과 API 응답 시간 p50/p95/p99를 조회합니다.
+	 *         <p>
+	 */
+	@GetMapping("/cluster/{cluster_name}/probe-stats")
+	@Operation(summary = "클러스터 상태 점검 통계 조회",
+			description = "기간별 가용성(%)과 API 응답 시간 p50/p95/p99를 조회합니다. 기간은 s, m, h, d 단위로 지정합니다.")
+	public ResponseEntity<ClusterProbeStatsDto> getClusterProbeStats(
+			@PathVariable("cluster_name") String clusterName,
+			@RequestParam(required = false) List<String> windows) {
+		return new ResponseEntity<>(clusterService.getClusterProbeStats(clusterName, windows),
+				new HttpHeaders(),
+				HttpStatus.OK);
+	}
 }
@@ -1,19 +1,45 @@
 package com.aipaas.anycloud.controller;
 
+import com.aipaas.anycloud.error.enums.ErrorCode;
+import com.aipaas.anycloud.error.exception.CustomException;
+import com.aipaas.anycloud.model.dto.request.BulkDeleteRequestDto;
+import com.aipaas.anycloud.model.dto.request.PodLogRequestDto;
+import com.aipaas.anycloud.model.dto.request.ResourceListRequestDto;
+import com.aipaas.anycloud.model.dto.response.BulkDeleteResultDto;
+import com.aipaas.anycloud.model.dto.response.ResourceResultDto;
+import com.aipaas.anycloud.model.enums.ResourceView;
 import com.aipaas.anycloud.service.KubeService;
+import com.aipaas.anycloud.service.KubeService.RawStream;
+import com.aipaas.anycloud.service.KubeService.ResourceStream;
+import com.aipaas.anycloud.util.KubernetesFieldFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -22,7 +48,14 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Packages", description = "Kubernetes API Document")
 public class KubeController {
 
+	private static final String CACHE_HEADER = "X-Cache";
+	private static final String CACHE_STALENESS_HEADER = "X-Cache-Staleness-Millis";
+	private static final String RESOURCE_VERSION_HEADER = "X-Resource-Version";
+	private static final String CONTINUE_HEADER = "X-Continue";
+	private static final String REMAINING_ITEM_COUNT_HEADER = "X-Remaining-Item-Count";
+
 	private final KubeService kubeService;
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * [KubeController] 클러스터 연결 테스트 함수
@@ -39,17 +72,220 @@ public class KubeController {
 			HttpStatus.OK);
 	}
 	@GetMapping("/{resource_type}")
-	@Operation(summary = "쿠버네티스 특정 리소스 목록 조회", description = "쿠버네티스 특정 리소스 전체를 조회합니다.")
+	@Operation(summary = "쿠버네티스 특정 리소스 목록 조회", description = "쿠버네티스 특정 리소스 전체를 조회합니다. "
+		+ "limit을 지정하면 페이지 단위로 조회하며, 다음 페이지 토큰은 X-Continue 헤더로 반환됩니다. "
+		+ "labelSelector, fieldSelector는 API 서버로 그대로 전달되어 서버에서 필터링됩니다. "
+		+ "fields(예: metadata.name,status.phase)를 지정하면 해당 필드만 반환합니다.")
 	public ResponseEntity<?> getResources(
 		@PathVariable("resource_type") String kind,
 		@RequestParam(required = true) String clusterName,
-		@RequestParam(required = false) String namespace
+		@RequestParam(required = false) String namespace,
+		@RequestParam(required = false) Long limit,
+		@RequestParam(name = "continue", required = false) String continueToken,
+		@RequestParam(required = false) String labelSelector,
+		@RequestParam(required = false) String fieldSelector,
+		@RequestParam(required = false) String fields
+	) {
+		ResourceListRequestDto request = ResourceListRequestDto.builder()
+			.namespace(namespace)
+			.limit(limit)
+			.continueToken(continueToken)
+			.labelSelector(labelSelector)
+			.fieldSelector(fieldSelector)
+			.build();
+		ResourceResultDto<?> result = kubeService.getResources(clusterName, kind, request);
+		return new ResponseEntity<>(projectFields(result.getData(), fields),
+			resultHeaders(result, clusterName, kind, namespace, limit, continueToken, labelSelector,
+				fieldSelector, fields),
+			HttpStatus.OK);
+	}
+
+	/**
+	 * [KubeController] 여러 종류 쿠버네티스 리소스 일괄 조회 함수
+	 *
+	 * @return 한 클러스터/네임스페이스의 여러 종류 리소스 목록을 종류별로 묶어 반환합니다.
+	 */
+	@GetMapping("/batch")
+	@Operation(summary = "여러 종류 쿠버네티스 리소스 일괄 조회",
+		description = "kinds에 지정한 리소스 종류들을 하나의 클라이언트로 동시에 조회해 한 번에 반환합니다.")
+	public ResponseEntity<?> getBatchResources(
+		@RequestParam(required = true) String clusterName,
+		@RequestParam(required = false) String namespace,
+		@RequestParam(required = true) List<String> kinds,
+		@RequestParam(required = false) String fields
+	) {
+		return new ResponseEntity<>(
+			projectFields(kubeService.getBatchResources(clusterName, namespace, kinds), fields),
+			new HttpHeaders(),
+			HttpStatus.OK);
+	}
+
+	/**
+	 * [KubeController] 멀티 클러스터 쿠버네티스 리소스 목록 조회 함수
+	 *
+	 * @return 여러 클러스터의 특정 리소스 목록을 클러스터별로 묶어 반환합니다.
+	 */
+	@GetMapping("/fleet/{resource_type}")
+	@Operation(summary = "멀티 클러스터 리소스 목록 조회", description = "등록된 전체 클러스터(또는 clusterNames로 지정한 "
+		+ "클러스터)에서 특정 리소스를 동시에 조회합니다. 응답하지 않는 클러스터는 TIMEOUT으로 표시되고 나머지 결과는 그대로 반환됩니다. "
+		+ "namespace를 지정하지 않으면 전체 네임스페이스를 조회합니다.")
+	public ResponseEntity<?> getFleetResources(
+		@PathVariable("resource_type") String kind,
+		@RequestParam(required = false) List<String> clusterNames,
+		@RequestParam(required = false) String namespace,
+		@RequestParam(required = false) Long limit,
+		@RequestParam(required = false) String labelSelector,
+		@RequestParam(required = false) String fieldSelector,
+		@RequestParam(required = false) String fields
 	) {
-		return new ResponseEntity<>(kubeService.getResources(clusterName, namespace, kind),
+		ResourceListRequestDto request = ResourceListRequestDto.builder()
+			.namespace(namespace)
+			.limit(limit)
+			.labelSelector(labelSelector)
+			.fieldSelector(fieldSelector)
+			.build();
+		return new ResponseEntity<>(
+			projectFields(kubeService.getFleetResources(kind, clusterNames, request), fields),
 			new HttpHeaders(),
 			HttpStatus.OK);
 	}
 
+	/**
+	 * [KubeController] 쿠버네티스 리소스 목록 스트리밍 조회 함수
+	 *
+	 * @return 쿠버네티스 특정 리소스 목록을 페이지 단위로 조회하면서 JSON 배열로 바로 내려줍니다.
+	 */
+	@GetMapping(value = "/{resource_type}", params = "stream=true")
+	@Operation(summary = "쿠버네티스 특정 리소스 목록 스트리밍 조회", description = "쿠버네티스 특정 리소스 전체를 "
+		+ "chunked 응답으로 조회합니다. limit은 API 서버에서 한 번에 가져오는 페이지 크기로 사용됩니다.")
+	public ResponseEntity<StreamingResponseBody> streamResources(
+		@PathVariable("resource_type") String kind,
+		@RequestParam(required = true) String clusterName,
+		@RequestParam(required = false) String namespace,
+		@RequestParam(required = false) Long limit,
+		@RequestParam(name = "continue", required = false) String continueToken,
+		@RequestParam(required = false) String labelSelector,
+		@RequestParam(required = false) String fieldSelector,
+		@RequestParam(required = false) String fields
+	) {
+		ResourceListRequestDto request = ResourceListRequestDto.builder()
+			.namespace(namespace)
+			.limit(limit)
+			.continueToken(continueToken)
+			.labelSelector(labelSelector)
+			.fieldSelector(fieldSelector)
+			.build();
+		ResourceStream stream = kubeService.streamResources(clusterName, kind, request);
+
+		// 항목마다 flush하지 않고 generator 버퍼가 찰 때 내보낸다
+		ObjectWriter writer = objectMapper.writer(KubernetesFieldFilter.provider(fields))
+			.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		StreamingResponseBody body = out -> {
+			try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+				generator.writeStartArray();
+				stream.writeTo(item -> writer.writeValue(generator, item));
+				generator.writeEndArray();
+			}
+		};
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(body);
+	}
+
+	/**
+	 * [KubeController] 쿠버네티스 리소스 목록 metadata/table 조회 함수
+	 *
+	 * @return API 서버가 변환한 PartialObjectMetadataList 또는 Table 응답을 그대로 반환합니다.
+	 */
+	@GetMapping(value = "/{resource_type}", params = {"view", "view!=full"})
+	@Operation(summary = "쿠버네티스 특정 리소스 목록 요약 조회", description = "view=metadata 이면 metadata만, "
+		+ "view=table 이면 kubectl get과 같은 Table 형태로 조회합니다. 다음 페이지 토큰은 응답의 metadata.continue에 포함됩니다.")
+	public ResponseEntity<StreamingResponseBody> getResourceView(
+		@PathVariable("resource_type") String kind,
+		@RequestParam(required = true) String clusterName,
+		@RequestParam(required = true) String view,
+		@RequestParam(required = false) String namespace,
+		@RequestParam(required = false) Long limit,
+		@RequestParam(name = "continue", required = false) String continueToken,
+		@RequestParam(required = false) String labelSelector,
+		@RequestParam(required = false) String fieldSelector,
+		HttpServletRequest httpRequest
+	) {
+		ResourceView resourceView;
+		try {
+			resourceView = ResourceView.fromValue(view);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "view", view, e.getMessage());
+		}
+		ResourceListRequestDto request = ResourceListRequestDto.builder()
+			.namespace(namespace)
+			.limit(limit)
+			.continueToken(continueToken)
+			.labelSelector(labelSelector)
+			.fieldSelector(fieldSelector)
+			.build();
+		RawStream stream = kubeService.getResourceView(clusterName, kind, request, resourceView);
+		// 본문이 실행되지 않고 요청이 끝나도 WebConfig의 interceptor가 응답을 닫도록 보관
+		httpRequest.setAttribute(RawStream.REQUEST_ATTRIBUTE, stream);
+
+		StreamingResponseBody body = stream::writeTo;
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(body);
+	}
+
+	/**
+	 * [KubeController] 쿠버네티스 리소스 변경 이벤트 구독 함수
+	 *
+	 * @return 현재 목록(SNAPSHOT)과 이후 ADDED/MODIFIED/DELETED 이벤트를 SSE로 전달합니다.
+	 */
+	@GetMapping(value = "/{resource_type}/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "쿠버네티스 특정 리소스 변경 구독", description = "쿠버네티스 특정 리소스의 변경 사항을 "
+		+ "Server-Sent Events로 전달합니다. 처리 속도가 느린 구독자는 OVERFLOW 이벤트 후 연결이 종료되며, 재연결하면 다시 SNAPSHOT부터 받습니다.")
+	public SseEmitter watchResources(
+		@PathVariable("resource_type") String kind,
+		@RequestParam(required = true) String clusterName,
+		@RequestParam(required = false) String namespace
+	) {
+		return kubeService.watchResources(clusterName, namespace, kind);
+	}
+
+	/**
+	 * [KubeController] 파드 로그 조회 함수
+	 *
+	 * @return API 서버의 파드 로그를 버퍼링 없이 그대로 스트리밍합니다.
+	 */
+	@GetMapping("/pods/{pod_name}/logs")
+	@Operation(summary = "파드 로그 조회", description = "파드 로그를 조회합니다. follow=true 이면 연결을 유지하며 "
+		+ "새 로그를 이어서 전달하며, 클러스터별 동시 follow 개수가 제한됩니다.")
+	public ResponseEntity<StreamingResponseBody> getPodLogs(
+		@PathVariable("pod_name") String name,
+		@RequestParam(required = true) String clusterName,
+		@RequestParam(required = false) String namespace,
+		@RequestParam(required = false) String container,
+		@RequestParam(required = false) Integer tailLines,
+		@RequestParam(required = false) Integer sinceSeconds,
+		@RequestParam(required = false, defaultValue = "false") boolean follow,
+		@RequestParam(required = false, defaultValue = "false") boolean timestamps,
+		HttpServletRequest httpRequest
+	) {
+		PodLogRequestDto request = PodLogRequestDto.builder()
+			.container(container)
+			.tailLines(tailLines)
+			.sinceSeconds(sinceSeconds)
+			.follow(follow)
+			.timestamps(timestamps)
+			.build();
+		RawStream stream = kubeService.streamPodLogs(clusterName, namespace, name, request);
+		// 본문이 실행되지 않고 요청이 끝나도 WebConfig의 interceptor가 자원을 반환하도록 보관
+		httpRequest.setAttribute(RawStream.REQUEST_ATTRIBUTE, stream);
+
+		StreamingResponseBody body = stream::writeTo;
+		return ResponseEntity.ok()
+			.contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+			.body(body);
+	}
+
 	/**
 	 * [KubeController] 쿠버네티스 리소스 단일 조회 함수
 	 *
@@ -61,10 +297,12 @@ public class KubeController {
 		@PathVariable("resource_type") String kind,
 		@PathVariable("resource_name") String name,
 		@RequestParam(required = true) String clusterName,
-		@RequestParam(required = false) String namespace
+		@RequestParam(required = false) String namespace,
+		@RequestParam(required = false) String fields
 	) {
-		return new ResponseEntity<>(kubeService.getResource(clusterName, namespace, kind, name),
-			new HttpHeaders(),
+		ResourceResultDto<?> result = kubeService.getResource(clusterName, namespace, kind, name);
+		return new ResponseEntity<>(projectFields(result.getData(), fields),
+			resultHeaders(result, clusterName, kind, namespace, name, fields),
 			HttpStatus.OK);
 	}
 
@@ -83,4 +321,64 @@ public class KubeController {
 		return new ResponseEntity<>(kubeService.deleteResource(clusterName, namespace, kind, name),
 			new HttpHeaders(), HttpStatus.OK);
 	}
+
+	/**
+	 * [KubeController] 쿠버네티스 리소스 일괄 삭제
+	 *
+	 * @return 리소스 이름 목록 또는 라벨 셀렉터에 해당하는 리소스를 삭제하고 항목별 결과를 반환합니다.
+	 */
+	@PostMapping("/{resource_type}/bulk-delete")
+	@Operation(summary = "쿠버네티스 리소스 일괄 삭제",
+		description = "리소스 이름 목록 또는 라벨 셀렉터에 해당하는 리소스를 삭제합니다. "
+			+ "라벨 셀렉터는 deletecollection 요청 한 번으로, 이름 목록은 병렬로 삭제합니다.")
+	public ResponseEntity<BulkDeleteResultDto> bulkDeleteResources(
+		@PathVariable("resource_type") String kind,
+		@RequestParam(required = true) String clusterName,
+		@RequestParam(required = false) String namespace,
+		@RequestBody BulkDeleteRequestDto request) {
+		return new ResponseEntity<>(kubeService.bulkDeleteResources(clusterName, namespace, kind, request),
+			new HttpHeaders(), HttpStatus.OK);
+	}
+
+	/**
+	 * [KubeController] fields 파라미터가 있으면 직렬화 시 해당 필드만 내려가도록 필터를 지정하는 함수
+	 *
+	 * @return 필터가 지정된 응답 본문을 반환합니다.
+	 */
+	private Object projectFields(Object data, String fields) {
+		if (data == null || fields == null || fields.isBlank()) {
+			return data;
+		}
+		MappingJacksonValue value = new MappingJacksonValue(data);
+		value.setFilters(KubernetesFieldFilter.provider(fields));
+		return value;
+	}
+
+	/**
+	 * [KubeController] 조회 결과의 캐시 여부, staleness, 페이지 토큰, ETag를 응답 헤더로 변환하는 함수
+	 * ETag는 resourceVersion과 요청 조건으로 만들며, If-None-Match가 일치하면 Spring이 304를 반환합니다.
+	 *
+	 * @return 조회 결과 메타 정보를 담은 응답 헤더를 반환합니다.
+	 */
+	private HttpHeaders resultHeaders(ResourceResultDto<?> result, Object... variant) {
+		HttpHeaders headers = new HttpHeaders();
+		if (result.getResourceVersion() != null) {
+			String key = result.getResourceVersion() + "|" + Arrays.toString(variant);
+			headers.setETag("\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"");
+		}
+		headers.set(CACHE_HEADER, result.isCached() ? "HIT" : "MISS");
+		if (result.getStalenessMillis() != null) {
+			headers.set(CACHE_STALENESS_HEADER, String.valueOf(result.getStalenessMillis()));
+		}
+		if (result.getResourceVersion() != null) {
+			headers.set(RESOURCE_VERSION_HEADER, result.getResourceVersion());
+		}
+		if (result.getContinueToken() != null) {
+			headers.set(CONTINUE_HEADER, result.getContinueToken());
+		}
+		if (result.getRemainingItemCount() != null) {
+			headers.set(REMAINING_ITEM_COUNT_HEADER, String.valueOf(result.getRemainingItemCount()));
+		}
+		return headers;
+	}
 }
@@ -30,6 +30,7 @@ public enum ErrorCode {
 	DUPLICATE(409, "중복된 데이터가 있습니다."),
 	NO_BODY(400, "입력된 바디 또는 파라미터가 없습니다."),
 	DATA_INTEGRITY(403, "데이터가 정상적으로 처리되지 못했습니다."),
+	TOO_MANY_REQUESTS(429, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
 
 	// Cluster related errors
 	CLUSTER_NOT_FOUND(404, "클러스터를 찾을 수 없습니다."),
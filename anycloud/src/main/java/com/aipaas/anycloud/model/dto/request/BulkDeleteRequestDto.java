@@ -0,0 +1,36 @@
+package com.aipaas.anycloud.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : BulkDeleteRequestDto
+ * Type : class
+ * Description : 쿠버네티스 리소스 일괄 삭제 요청을 위한 DTO입니다.
+ *  - names 또는 labelSelector 중 하나만 지정해야 합니다.
+ * Related : KubeController, KubeService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "쿠버네티스 리소스 일괄 삭제 요청 DTO")
+public class BulkDeleteRequestDto {
+
+	@Schema(description = "삭제할 리소스 이름 목록", example = "[\"job-1\", \"job-2\"]")
+	private List<String> names;
+
+	@Schema(description = "삭제할 리소스의 라벨 셀렉터", example = "app=batch,status=done")
+	private String labelSelector;
+
+	@Schema(description = "하위 리소스 삭제 정책 (Foreground, Background, Orphan)", example = "Background")
+	private String propagationPolicy;
+}
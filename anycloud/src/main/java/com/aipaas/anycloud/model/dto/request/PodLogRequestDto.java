@@ -0,0 +1,40 @@
+package com.aipaas.anycloud.model.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : PodLogRequestDto
+ * Type : class
+ * Description : 파드 로그 조회 조건을 담는 DTO입니다.
+ * Related : KubeController, KubeService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "파드 로그 조회 요청 DTO")
+public class PodLogRequestDto {
+
+	@Schema(description = "컨테이너 이름 (컨테이너가 여러 개인 파드는 필수)", example = "nginx")
+	private String container;
+
+	@Schema(description = "마지막 N줄만 조회", example = "100")
+	private Integer tailLines;
+
+	@Schema(description = "최근 N초 동안의 로그만 조회", example = "3600")
+	private Integer sinceSeconds;
+
+	@Schema(description = "로그를 계속 이어서 받을지 여부", example = "false")
+	private boolean follow;
+
+	@Schema(description = "각 줄 앞에 타임스탬프를 붙일지 여부", example = "false")
+	private boolean timestamps;
+}
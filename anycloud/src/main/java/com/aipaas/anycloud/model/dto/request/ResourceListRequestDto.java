@@ -0,0 +1,69 @@
+package com.aipaas.anycloud.model.dto.request;
+
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : ResourceListRequestDto
+ * Type : class
+ * Description : 쿠버네티스 리소스 목록 조회 조건을 담는 DTO입니다.
+ * Related : KubeController, KubeService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "쿠버네티스 리소스 목록 조회 요청 DTO")
+public class ResourceListRequestDto {
+
+	@Schema(description = "네임스페이스", example = "default")
+	private String namespace;
+
+	@Schema(description = "한 번에 조회할 최대 개수", example = "500")
+	private Long limit;
+
+	@Schema(description = "이전 응답에서 받은 continue 토큰")
+	private String continueToken;
+
+	@Schema(description = "라벨 셀렉터", example = "app=nginx,tier in (frontend,backend)")
+	private String labelSelector;
+
+	@Schema(description = "필드 셀렉터", example = "status.phase=Running,spec.nodeName=worker-1")
+	private String fieldSelector;
+
+	/**
+	 * limit 또는 continue 토큰이 지정된 페이지 단위 조회인지 여부
+	 */
+	public boolean isPaged() {
+		return limit != null || continueToken != null;
+	}
+
+	/**
+	 * 라벨 또는 필드 셀렉터가 지정되었는지 여부
+	 */
+	public boolean hasSelector() {
+		return hasText(labelSelector) || hasText(fieldSelector);
+	}
+
+	public ListOptions toListOptions() {
+		return new ListOptionsBuilder()
+			.withLimit(limit)
+			.withContinue(continueToken)
+			.withLabelSelector(hasText(labelSelector) ? labelSelector : null)
+			.withFieldSelector(hasText(fieldSelector) ? fieldSelector : null)
+			.build();
+	}
+
+	private static boolean hasText(String value) {
+		return value != null && !value.isBlank();
+	}
+}
@@ -0,0 +1,68 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import com.aipaas.anycloud.model.enums.ResultStatus;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : BatchResourceDto
+ * Type : class
+ * Description : 한 클러스터의 여러 종류 쿠버네티스 리소스 조회 결과를 종류별로 묶어 반환하기 위한 DTO입니다.
+ * Related : KubeController, KubeService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "여러 종류 리소스 일괄 조회 응답 DTO")
+public class BatchResourceDto {
+
+	@Schema(description = "클러스터 ID", example = "cluster-001")
+	private String clusterName;
+
+	@Schema(description = "네임스페이스", example = "default")
+	private String namespace;
+
+	@Schema(description = "조회에 실패했거나 시간 내에 응답하지 않은 리소스 종류 수", example = "0")
+	private int failedKinds;
+
+	@Schema(description = "전체 조회 소요 시간 (ms)", example = "320")
+	private long elapsedMillis;
+
+	@Schema(description = "리소스 종류별 조회 결과 (요청한 순서 유지)")
+	private Map<String, KindResult> resources;
+
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(description = "리소스 종류별 조회 결과")
+	public static class KindResult {
+
+		@Schema(description = "조회 상태 (SUCCESS, FAILED, TIMEOUT)", example = "SUCCESS")
+		private ResultStatus status;
+
+		@Schema(description = "실패 사유")
+		private String message;
+
+		@Schema(description = "조회 소요 시간 (ms)", example = "120")
+		private Long elapsedMillis;
+
+		@Schema(description = "informer 캐시에서 조회되었는지 여부", example = "false")
+		private boolean cached;
+
+		@Schema(description = "조회된 리소스 목록")
+		private List<? extends HasMetadata> items;
+	}
+}
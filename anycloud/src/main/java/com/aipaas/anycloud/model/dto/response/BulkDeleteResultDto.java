@@ -0,0 +1,59 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : BulkDeleteResultDto
+ * Type : class
+ * Description : 쿠버네티스 리소스 일괄 삭제 결과를 항목별로 반환하기 위한 DTO입니다.
+ * Related : KubeController, KubeService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "쿠버네티스 리소스 일괄 삭제 응답 DTO")
+public class BulkDeleteResultDto {
+
+	@Schema(description = "리소스 종류", example = "jobs")
+	private String kind;
+
+	@Schema(description = "삭제 방식 (COLLECTION: deletecollection 1회, PARALLEL: 항목별 병렬 삭제)", example = "COLLECTION")
+	private String mode;
+
+	@Schema(description = "삭제된 항목 수", example = "120")
+	private int deleted;
+
+	@Schema(description = "삭제에 실패했거나 찾을 수 없는 항목 수", example = "2")
+	private int failed;
+
+	@Schema(description = "항목별 삭제 결과")
+	private List<Item> items;
+
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(description = "항목별 삭제 결과")
+	public static class Item {
+
+		@Schema(description = "리소스 이름", example = "job-1")
+		private String name;
+
+		@Schema(description = "삭제 결과 (DELETED, NOT_FOUND, FAILED)", example = "DELETED")
+		private String status;
+
+		@Schema(description = "실패 사유")
+		private String message;
+	}
+}
@@ -0,0 +1,76 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : ChartSearchDto
+ * Type : class
+ * Description : 등록된 모든 Helm repository를 대상으로 한 차트 검색 결과를 반환하기 위한 DTO입니다.
+ * Related : ChartController, ChartService, ChartSearchIndex
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Helm 차트 검색 응답 DTO")
+public class ChartSearchDto {
+
+    @Schema(description = "검색어", example = "nginx")
+    private String query;
+
+    @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+    private int page;
+
+    @Schema(description = "페이지 크기", example = "20")
+    private int size;
+
+    @Schema(description = "전체 검색 결과 수", example = "42")
+    private int totalCount;
+
+    @Schema(description = "검색 대상(색인된) repository 수", example = "3")
+    private int repositoryCount;
+
+    @Schema(description = "검색 소요 시간 (ms)", example = "2")
+    private long elapsedMillis;
+
+    @Schema(description = "검색 결과 (점수 내림차순)")
+    private List<Result> results;
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "차트 검색 결과")
+    public static class Result {
+        @Schema(description = "Repository 이름", example = "bitnami")
+        private String repositoryName;
+
+        @Schema(description = "차트 이름", example = "nginx")
+        private String name;
+
+        @Schema(description = "최신 차트 버전", example = "15.4.4")
+        private String version;
+
+        @Schema(description = "앱 버전", example = "1.25.3")
+        private String appVersion;
+
+        @Schema(description = "차트 설명", example = "NGINX Open Source is a web server that can be also used as a reverse proxy")
+        private String description;
+
+        @Schema(description = "차트 키워드", example = "[\"web\", \"nginx\"]")
+        private String[] keywords;
+
+        @Schema(description = "차트 아이콘 URL", example = "https://nginx.org/icon.png")
+        private String icon;
+
+        @Schema(description = "검색 점수", example = "160")
+        private int score;
+    }
+}
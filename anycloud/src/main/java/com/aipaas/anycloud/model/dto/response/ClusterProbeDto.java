@@ -0,0 +1,46 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : ClusterProbeDto
+ * Type : class
+ * Description : 클러스터 상태 점검 결과를 반환하기 위한 DTO입니다.
+ * Related : ClusterController, ClusterService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "클러스터 상태 점검 결과 DTO")
+public class ClusterProbeDto {
+
+	@Schema(description = "클러스터 ID", example = "cluster-001")
+	private String clusterName;
+
+	@Schema(description = "점검 결과 상태 (ACTIVE, INACTIVE)", example = "ACTIVE")
+	private String status;
+
+	@Schema(description = "쿠버네티스 버전", example = "v1.29.4")
+	private String version;
+
+	@Schema(description = "점검 소요 시간 (ms)", example = "85")
+	private long latencyMillis;
+
+	@Schema(description = "실패 사유")
+	private String message;
+
+	@Schema(description = "점검 시각")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", locale = "ko_KR", timezone = "Asia/Seoul")
+	private ZonedDateTime probedAt;
+}
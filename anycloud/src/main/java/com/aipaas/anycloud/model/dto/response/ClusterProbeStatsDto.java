@@ -0,0 +1,68 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : ClusterProbeStatsDto
+ * Type : class
+ * Description : 클러스터 상태 점검 결과의 가용성, API 응답 시간 통계를 반환하기 위한 DTO입니다.
+ * Related : ClusterController, ClusterService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "클러스터 상태 점검 통계 DTO")
+public class ClusterProbeStatsDto {
+
+	@Schema(description = "클러스터 ID", example = "cluster-001")
+	private String clusterName;
+
+	@Schema(description = "클러스터별로 보관하는 최대 점검 결과 수", example = "2880")
+	private int capacity;
+
+	@Schema(description = "보관 중인 점검 결과 수", example = "288")
+	private int retained;
+
+	@Schema(description = "기간별 통계")
+	private List<WindowStats> windows;
+
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(description = "기간별 통계")
+	public static class WindowStats {
+
+		@Schema(description = "기간", example = "1h")
+		private String window;
+
+		@Schema(description = "점검 횟수", example = "12")
+		private int samples;
+
+		@Schema(description = "성공한 점검 횟수", example = "11")
+		private int successes;
+
+		@Schema(description = "가용성 (%, 점검 결과가 없으면 null)", example = "91.67")
+		private Double availability;
+
+		@Schema(description = "성공한 점검의 API 응답 시간 p50 (ms)", example = "42")
+		private Long p50;
+
+		@Schema(description = "성공한 점검의 API 응답 시간 p95 (ms)", example = "120")
+		private Long p95;
+
+		@Schema(description = "성공한 점검의 API 응답 시간 p99 (ms)", example = "310")
+		private Long p99;
+	}
+}
@@ -0,0 +1,49 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : ClusterStatusHistoryDto
+ * Type : class
+ * Description : 클러스터 상태/버전 변경 이력을 반환하기 위한 DTO입니다.
+ * Related : ClusterController, ClusterService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "클러스터 상태 변경 이력 DTO")
+public class ClusterStatusHistoryDto {
+
+	@Schema(description = "클러스터 ID", example = "cluster-001")
+	private String clusterName;
+
+	@Schema(description = "이전 상태", example = "ACTIVE")
+	private String previousStatus;
+
+	@Schema(description = "변경된 상태", example = "INACTIVE")
+	private String status;
+
+	@Schema(description = "이전 버전", example = "v1.29.4")
+	private String previousVersion;
+
+	@Schema(description = "변경된 버전", example = "UNKNOWN")
+	private String version;
+
+	@Schema(description = "변경 사유")
+	private String message;
+
+	@Schema(description = "변경 시각")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", locale = "ko_KR", timezone = "Asia/Seoul")
+	private ZonedDateTime changedAt;
+}
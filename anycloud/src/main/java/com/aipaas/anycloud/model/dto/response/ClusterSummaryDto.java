@@ -0,0 +1,63 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : ClusterSummaryDto
+ * Type : class
+ * Description : 클러스터 목록 조회 결과를 반환하기 위한 DTO입니다.
+ *  - 인증서, 키, 토큰 등 접속 정보 컬럼은 조회하지 않음
+ * Related : ClusterController, ClusterRepository
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "클러스터 목록 DTO")
+public class ClusterSummaryDto {
+
+	@Schema(description = "클러스터 ID", example = "cluster-001")
+	private String id;
+
+	@Schema(description = "클러스터 설명")
+	private String description;
+
+	@Schema(description = "클러스터 상태 (ACTIVE, INACTIVE, UNKNOWN)", example = "ACTIVE")
+	private String status;
+
+	@Schema(description = "쿠버네티스 버전", example = "v1.29.4")
+	private String version;
+
+	@Schema(description = "API 서버 URL", example = "https://10.0.0.1:6443")
+	private String apiServerUrl;
+
+	@Schema(description = "API 서버 IP", example = "10.0.0.1")
+	private String apiServerIp;
+
+	@Schema(description = "모니터링 서버 URL")
+	private String monitServerUrl;
+
+	@Schema(description = "클러스터 종류")
+	private String clusterType;
+
+	@Schema(description = "클러스터 제공자")
+	private String clusterProvider;
+
+	@Schema(description = "생성 일시")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm", locale = "ko_KR", timezone = "Asia/Seoul")
+	private ZonedDateTime createdAt;
+
+	@Schema(description = "수정 일시")
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm", locale = "ko_KR", timezone = "Asia/Seoul")
+	private ZonedDateTime updatedAt;
+}
@@ -0,0 +1,70 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import com.aipaas.anycloud.model.enums.ResultStatus;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : FleetResourceDto
+ * Type : class
+ * Description : 여러 클러스터의 쿠버네티스 리소스 조회 결과를 클러스터별로 묶어 반환하기 위한 DTO입니다.
+ * Related : KubeController, KubeService
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "멀티 클러스터 리소스 조회 응답 DTO")
+public class FleetResourceDto {
+
+	@Schema(description = "리소스 종류", example = "deployments")
+	private String kind;
+
+	@Schema(description = "조회 대상 클러스터 수", example = "3")
+	private int totalClusters;
+
+	@Schema(description = "조회에 실패했거나 시간 내에 응답하지 않은 클러스터 수", example = "1")
+	private int failedClusters;
+
+	@Schema(description = "전체 조회 소요 시간 (ms)", example = "850")
+	private long elapsedMillis;
+
+	@Schema(description = "클러스터별 조회 결과")
+	private List<ClusterResult> clusters;
+
+	@Getter
+	@Setter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(description = "클러스터별 조회 결과")
+	public static class ClusterResult {
+
+		@Schema(description = "클러스터 ID", example = "cluster-001")
+		private String clusterName;
+
+		@Schema(description = "조회 상태 (SUCCESS, FAILED, TIMEOUT, NOT_FOUND)", example = "SUCCESS")
+		private ResultStatus status;
+
+		@Schema(description = "실패 사유")
+		private String message;
+
+		@Schema(description = "클러스터 조회 소요 시간 (ms)", example = "420")
+		private Long elapsedMillis;
+
+		@Schema(description = "informer 캐시에서 조회되었는지 여부", example = "false")
+		private boolean cached;
+
+		@Schema(description = "조회된 리소스 목록")
+		private List<? extends HasMetadata> items;
+	}
+}
@@ -0,0 +1,51 @@
+package com.aipaas.anycloud.model.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : ResourceResultDto
+ * Type : class
+ * Description : 쿠버네티스 리소스 조회 결과와 조회 출처(캐시/API 서버) 정보를 함께 전달하기 위한 DTO입니다.
+ *  - 응답 본문에는 data만 내려가고, 나머지 값은 컨트롤러에서 응답 헤더로 변환합니다.
+ * Related : KubeController, KubeService, KubernetesInformerCache
+ * </pre>
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "쿠버네티스 리소스 조회 결과 DTO")
+public class ResourceResultDto<T> {
+
+	@Schema(description = "조회 결과")
+	private T data;
+
+	@Schema(description = "informer 캐시에서 조회되었는지 여부", example = "true")
+	private boolean cached;
+
+	@Schema(description = "캐시 데이터가 마지막으로 최신 상태임이 확인된 이후 경과 시간 (ms)", example = "0")
+	private Long stalenessMillis;
+
+	@Schema(description = "조회 기준 resourceVersion", example = "123456")
+	private String resourceVersion;
+
+	@Schema(description = "다음 페이지 조회에 사용할 continue 토큰 (마지막 페이지이면 null)")
+	private String continueToken;
+
+	@Schema(description = "남은 항목 수 (API 서버가 제공하는 경우)", example = "1200")
+	private Long remainingItemCount;
+
+	public static <T> ResourceResultDto<T> live(T data) {
+		return ResourceResultDto.<T>builder()
+			.data(data)
+			.cached(false)
+			.build();
+	}
+}
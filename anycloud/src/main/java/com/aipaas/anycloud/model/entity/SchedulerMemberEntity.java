@@ -0,0 +1,52 @@
+package com.aipaas.anycloud.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * ClassName : SchedulerMemberEntity
+ * Type : class
+ * Description : 클러스터 상태 점검을 나눠 수행하는 백엔드 인스턴스(replica)의 heartbeat를 기록하는 Entity입니다.
+ *  - 테이블은 docs/sql/scheduler_member.sql 로 생성 (ddl-auto=none)
+ * Related : SchedulerMemberRepository, ClusterShardCoordinator
+ * </pre>
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "scheduler_member", schema = "aipaas")
+public class SchedulerMemberEntity implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 4412537810263412853L;
+
+	@Id
+	@NotNull
+	@Size(max = 100)
+	@Column(name = "id", nullable = false, length = 100)
+	private String id;
+
+	@NotNull
+	@Column(name = "started_at", nullable = false)
+	private Instant startedAt;
+
+	@NotNull
+	@Column(name = "heartbeat_at", nullable = false)
+	private Instant heartbeatAt;
+}
@@ -1,10 +1,44 @@
 package com.aipaas.anycloud.model.enums;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.Endpoints;
+import io.fabric8.kubernetes.api.model.Event;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.Node;
+import io.fabric8.kubernetes.api.model.PersistentVolume;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceAccount;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.api.model.apps.DaemonSet;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.autoscaling.v1.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.batch.v1.CronJob;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
+import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
+import io.fabric8.kubernetes.api.model.rbac.Role;
+import io.fabric8.kubernetes.api.model.rbac.RoleBinding;
+import io.fabric8.kubernetes.api.model.storage.StorageClass;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import java.util.HashMap;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import lombok.Getter;
 import lombok.ToString;
 
@@ -13,293 +47,165 @@ import lombok.ToString;
 @JsonFormat(shape = JsonFormat.Shape.OBJECT)
 public enum ResourceType {
 	// APPS
-	DAEMON_SET("daemonSets", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.apps().daemonSets().inAnyNamespace().list().getItems();
-			}
-			return client.apps().daemonSets().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.apps().daemonSets().inNamespace(nameNs[0]).withName(nameNs[1])
-			.get(),
-		(client, nameNs) -> !client.apps().daemonSets().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
-
-	DEPLOYMENT("deployments", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.apps().deployments().inAnyNamespace().list().getItems();
-			}
-			return client.apps().deployments().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.apps().deployments().inNamespace(nameNs[0]).withName(nameNs[1])
-			.get(),
-		(client, nameNs) -> !client.apps().deployments().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
-
-	REPLICA_SET("replicaSets", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.apps().replicaSets().inAnyNamespace().list().getItems();
-			}
-			return client.apps().replicaSets().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.apps().replicaSets().inNamespace(nameNs[0]).withName(nameNs[1])
-			.get(),
-		(client, nameNs) -> !client.apps().replicaSets().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
-
-	STATEFUL_SET("statefulSets", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.apps().statefulSets().inAnyNamespace().list().getItems();
-			}
-			return client.apps().statefulSets().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.apps().statefulSets().inNamespace(nameNs[0]).withName(nameNs[1])
-			.get(),
-		(client, nameNs) -> !client.apps().statefulSets().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
+	DAEMON_SET("daemonSets", true, DaemonSet.class),
+	DEPLOYMENT("deployments", true, Deployment.class),
+	REPLICA_SET("replicaSets", true, ReplicaSet.class),
+	STATEFUL_SET("statefulSets", true, StatefulSet.class),
 
 	// BATCH
-	JOB("jobs", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.batch().v1().jobs().inAnyNamespace().list().getItems();
-			}
-			return client.batch().v1().jobs().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.batch().v1().jobs().inNamespace(nameNs[0]).withName(nameNs[1])
-			.get(),
-		(client, nameNs) -> !client.batch().v1().jobs().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
-
-	CRONJOB("cronJobs", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.batch().v1().cronjobs().inAnyNamespace().list().getItems();
-			}
-			return client.batch().v1().cronjobs().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.batch().v1().cronjobs().inNamespace(nameNs[0])
-			.withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.batch().v1().cronjobs().inNamespace(nameNs[0])
-			.withName(nameNs[1]).delete().isEmpty()),
+	JOB("jobs", true, Job.class),
+	CRONJOB("cronJobs", true, CronJob.class),
 
 	// CORE
-	ENDPOINT("endpoints", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.endpoints().inAnyNamespace().list().getItems();
-			}
-			return client.endpoints().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.endpoints().inNamespace(nameNs[0]).withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.endpoints().inNamespace(nameNs[0]).withName(nameNs[1]).delete()
-			.isEmpty()),
-
-	NAMESPACE("namespaces", false,
-		(client, ns) -> client.namespaces().list().getItems(),
-		(client, nameNs) -> client.namespaces().withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.namespaces().withName(nameNs[1]).delete().isEmpty()),
-
-	NODE("nodes", false,
-		(client, ns) -> client.nodes().list().getItems(),
-		(client, nameNs) -> client.nodes().withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.nodes().withName(nameNs[1]).delete().isEmpty()),
-
-	PERSISTENT_VOLUME("persistentVolumes", false,
-		(client, ns) -> client.persistentVolumes().list().getItems(),
-		(client, nameNs) -> client.persistentVolumes().withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.persistentVolumes().withName(nameNs[1]).delete().isEmpty()),
-
-	PERSISTENT_VOLUME_CLAIM("persistentVolumeClaims", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.persistentVolumeClaims().inAnyNamespace().list().getItems();
-			}
-			return client.persistentVolumeClaims().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.persistentVolumeClaims().inNamespace(nameNs[0])
-			.withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.persistentVolumeClaims().inNamespace(nameNs[0])
-			.withName(nameNs[1]).delete().isEmpty()),
-
-	POD("pods", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.pods().inAnyNamespace().list().getItems();
-			}
-			return client.pods().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.pods().inNamespace(nameNs[0]).withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.pods().inNamespace(nameNs[0]).withName(nameNs[1]).delete()
-			.isEmpty()),
-
-	SECRET("secrets", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.secrets().inAnyNamespace().list().getItems();
-			}
-			return client.secrets().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.secrets().inNamespace(nameNs[0]).withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.secrets().inNamespace(nameNs[0]).withName(nameNs[1]).delete()
-			.isEmpty()),
-
-	SERVICE("services", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.services().inAnyNamespace().list().getItems();
-			}
-			return client.services().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.services().inNamespace(nameNs[0]).withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.services().inNamespace(nameNs[0]).withName(nameNs[1]).delete()
-			.isEmpty()),
-
-	SERVICE_ACCOUNT("serviceAccounts", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.serviceAccounts().inAnyNamespace().list().getItems();
-			}
-			return client.serviceAccounts().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.serviceAccounts().inNamespace(nameNs[0]).withName(nameNs[1])
-			.get(),
-		(client, nameNs) -> !client.serviceAccounts().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
-
-	CONFIGMAP("configMaps", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.configMaps().inAnyNamespace().list().getItems();
-			}
-			return client.configMaps().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.configMaps().inNamespace(nameNs[0]).withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.configMaps().inNamespace(nameNs[0]).withName(nameNs[1]).delete()
-			.isEmpty()),
-
-	EVENT("events", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.v1().events().inAnyNamespace().list().getItems();
-			}
-			return client.v1().events().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.v1().events().inNamespace(nameNs[0]).withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.v1().events().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
+	ENDPOINT("endpoints", true, Endpoints.class),
+	NAMESPACE("namespaces", false, Namespace.class),
+	NODE("nodes", false, Node.class),
+	PERSISTENT_VOLUME("persistentVolumes", false, PersistentVolume.class),
+	PERSISTENT_VOLUME_CLAIM("persistentVolumeClaims", true, PersistentVolumeClaim.class),
+	POD("pods", true, Pod.class),
+	SECRET("secrets", true, Secret.class),
+	SERVICE("services", true, Service.class),
+	SERVICE_ACCOUNT("serviceAccounts", true, ServiceAccount.class),
+	CONFIGMAP("configMaps", true, ConfigMap.class),
+	EVENT("events", true, Event.class),
 
 	// RBAC
-	ROLE("roles", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.rbac().roles().inAnyNamespace().list().getItems();
-			}
-			return client.rbac().roles().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.rbac().roles().inNamespace(nameNs[0]).withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.rbac().roles().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
-
-	ROLE_BINDING("roleBindings", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.rbac().roleBindings().inAnyNamespace().list().getItems();
-			}
-			return client.rbac().roleBindings().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.rbac().roleBindings().inNamespace(nameNs[0]).withName(nameNs[1])
-			.get(),
-		(client, nameNs) -> !client.rbac().roleBindings().inNamespace(nameNs[0]).withName(nameNs[1])
-			.delete().isEmpty()),
-
-	CLUSTER_ROLE("clusterRoles", false,
-		(client, ns) -> client.rbac().clusterRoles().list().getItems(),
-		(client, nameNs) -> client.rbac().clusterRoles().withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.rbac().clusterRoles().withName(nameNs[1]).delete().isEmpty()),
-
-	CLUSTER_ROLE_BINDING("clusterRoleBindings", false,
-		(client, ns) -> client.rbac().clusterRoleBindings().list().getItems(),
-		(client, nameNs) -> client.rbac().clusterRoleBindings().withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.rbac().clusterRoleBindings().withName(nameNs[1]).delete()
-			.isEmpty()),
+	ROLE("roles", true, Role.class),
+	ROLE_BINDING("roleBindings", true, RoleBinding.class),
+	CLUSTER_ROLE("clusterRoles", false, ClusterRole.class),
+	CLUSTER_ROLE_BINDING("clusterRoleBindings", false, ClusterRoleBinding.class),
 
 	// AUTOSCALING
-	HPA("horizontalPodAutoscalers", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.autoscaling().v1().horizontalPodAutoscalers().inAnyNamespace().list()
-					.getItems();
-			}
-			return client.autoscaling().v1().horizontalPodAutoscalers().inNamespace(ns).list()
-				.getItems();
-		},
-		(client, nameNs) -> client.autoscaling().v1().horizontalPodAutoscalers()
-			.inNamespace(nameNs[0]).withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.autoscaling().v1().horizontalPodAutoscalers()
-			.inNamespace(nameNs[0]).withName(nameNs[1]).delete().isEmpty()),
+	HPA("horizontalPodAutoscalers", true, HorizontalPodAutoscaler.class),
 
 	// NETWORK
-	INGRESS("ingresses", true,
-		(client, ns) -> {
-			if (ns == null) {
-				return client.network().v1().ingresses().inAnyNamespace().list().getItems();
-			}
-			return client.network().v1().ingresses().inNamespace(ns).list().getItems();
-		},
-		(client, nameNs) -> client.network().v1().ingresses().inNamespace(nameNs[0])
-			.withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.network().v1().ingresses().inNamespace(nameNs[0])
-			.withName(nameNs[1]).delete().isEmpty()),
+	INGRESS("ingresses", true, Ingress.class),
 
 	// STORAGE
-	STORAGE_CLASS("storageClasses", false,
-		(client, ns) -> client.storage().v1().storageClasses().list().getItems(),
-		(client, nameNs) -> client.storage().v1().storageClasses().withName(nameNs[1]).get(),
-		(client, nameNs) -> !client.storage().v1().storageClasses().withName(nameNs[1]).delete()
-			.isEmpty());
+	STORAGE_CLASS("storageClasses", false, StorageClass.class);
+
+	private static final Map<String, ResourceType> BY_KIND = new HashMap<>();
+
+	static {
+		for (ResourceType type : values()) {
+			BY_KIND.put(type.kind.toLowerCase(Locale.ROOT), type);
+		}
+	}
 
 	private final String kind;
 	private final boolean namespaced;
-	private final BiFunction<KubernetesClient, String, List<? extends HasMetadata>> fetcher;
-	private final BiFunction<KubernetesClient, String[], ? extends HasMetadata> singleFetcher;
-	private final BiFunction<KubernetesClient, String[], Boolean> singleDeleter;
+	private final Class<? extends HasMetadata> resourceClass;
 
-	ResourceType(String kind,
-		boolean namespaced,
-		BiFunction<KubernetesClient, String, List<? extends HasMetadata>> fetcher,
-		BiFunction<KubernetesClient, String[], ? extends HasMetadata> singleFetcher,
-		BiFunction<KubernetesClient, String[], Boolean> singleDeleter) {
+	ResourceType(String kind, boolean namespaced, Class<? extends HasMetadata> resourceClass) {
 		this.kind = kind;
 		this.namespaced = namespaced;
-		this.fetcher = fetcher;
-		this.singleFetcher = singleFetcher;
-		this.singleDeleter = singleDeleter;
+		this.resourceClass = resourceClass;
 	}
 
 	public static ResourceType fromKind(String kind) {
-		for (ResourceType type : values()) {
-			if (type.kind.equalsIgnoreCase(kind)) {
-				return type;
-			}
-		}
-		throw new IllegalArgumentException("Unknown kind: " + kind);
+		return find(kind).orElseThrow(() -> new IllegalArgumentException("Unknown kind: " + kind));
 	}
 
-	public List<? extends HasMetadata> getResources(KubernetesClient client, String namespace) {
-		return fetcher.apply(client, namespaced ? namespace : null);
+	/**
+	 * kind 이름(대소문자 무시)으로 리소스 종류를 찾습니다.
+	 *
+	 * @return 리소스 종류 (enum에 없는 리소스면 empty)
+	 */
+	public static Optional<ResourceType> find(String kind) {
+		return kind == null ? Optional.empty() : Optional.ofNullable(BY_KIND.get(kind.toLowerCase(Locale.ROOT)));
+	}
+
+	/**
+	 * API 서버의 chunked list를 사용해 리소스 목록을 조회합니다.
+	 * options의 limit/continue 값이 그대로 API 서버로 전달되며, 다음 페이지 토큰은 결과의 metadata에 담깁니다.
+	 */
+	public KubernetesResourceList<? extends HasMetadata> getResources(KubernetesClient client,
+		String namespace, ListOptions options) {
+		return list(client, resourceClass, namespaced ? namespace : null, options);
 	}
 
 	public HasMetadata getResourceByName(KubernetesClient client, String namespace, String name) {
-		String ns = namespaced ? namespace : "default";
-		return singleFetcher.apply(client, new String[]{ns, name});
+		return resource(client, resourceClass, namespace, name).get();
 	}
 
 	public boolean deleteResource(KubernetesClient client, String namespace, String name) {
-		String ns = namespaced ? namespace : "default";
-		return singleDeleter.apply(client, new String[]{ns, name});
+		return !resource(client, resourceClass, namespace, name).delete().isEmpty();
+	}
+
+	public List<StatusDetails> deleteResource(KubernetesClient client, String namespace, String name,
+		DeletionPropagation propagationPolicy) {
+		return resource(client, resourceClass, namespace, name).withPropagationPolicy(propagationPolicy)
+			.delete();
+	}
+
+	/**
+	 * deletecollection API 지원 여부 (Namespace는 컬렉션 삭제를 지원하지 않음)
+	 */
+	public boolean supportsDeleteCollection() {
+		return this != NAMESPACE;
+	}
+
+	/**
+	 * 라벨 셀렉터에 해당하는 리소스를 deletecollection 한 번으로 삭제합니다.
+	 *
+	 * @return 삭제된 리소스 정보
+	 */
+	public List<StatusDetails> deleteCollection(KubernetesClient client, String namespace,
+		String labelSelector, DeletionPropagation propagationPolicy) {
+		return deleteCollection(client, resourceClass, namespaced ? namespace : null, labelSelector,
+			propagationPolicy);
+	}
+
+	private <T extends HasMetadata> List<StatusDetails> deleteCollection(KubernetesClient client,
+		Class<T> type, String namespace, String labelSelector, DeletionPropagation propagationPolicy) {
+		MixedOperation<T, KubernetesResourceList<T>, Resource<T>> operation = client.resources(type);
+		if (!namespaced) {
+			return operation.withLabelSelector(labelSelector).withPropagationPolicy(propagationPolicy).delete();
+		}
+		return operation.inNamespace(namespace).withLabelSelector(labelSelector)
+			.withPropagationPolicy(propagationPolicy).delete();
+	}
+
+	/**
+	 * 시작되지 않은 SharedIndexInformer를 생성합니다.
+	 *
+	 * @param namespace 네임스페이스 (null이면 전체 네임스페이스, 클러스터 범위 리소스는 무시)
+	 */
+	public SharedIndexInformer<? extends HasMetadata> runnableInformer(KubernetesClient client,
+		String namespace, long resyncPeriod) {
+		return informer(client, resourceClass, namespaced ? namespace : null, resyncPeriod);
+	}
+
+	private <T extends HasMetadata> SharedIndexInformer<T> informer(KubernetesClient client,
+		Class<T> type, String namespace, long resyncPeriod) {
+		MixedOperation<T, KubernetesResourceList<T>, Resource<T>> operation = client.resources(type);
+		if (!namespaced) {
+			return operation.runnableInformer(resyncPeriod);
+		}
+		if (namespace == null) {
+			return operation.inAnyNamespace().runnableInformer(resyncPeriod);
+		}
+		return operation.inNamespace(namespace).runnableInformer(resyncPeriod);
+	}
+
+	private <T extends HasMetadata> KubernetesResourceList<T> list(KubernetesClient client,
+		Class<T> type, String namespace, ListOptions options) {
+		MixedOperation<T, KubernetesResourceList<T>, Resource<T>> operation = client.resources(type);
+		if (!namespaced) {
+			return operation.list(options);
+		}
+		if (namespace == null) {
+			return operation.inAnyNamespace().list(options);
+		}
+		return operation.inNamespace(namespace).list(options);
+	}
+
+	private <T extends HasMetadata> Resource<T> resource(KubernetesClient client, Class<T> type,
+		String namespace, String name) {
+		MixedOperation<T, KubernetesResourceList<T>, Resource<T>> operation = client.resources(type);
+		if (!namespaced) {
+			return operation.withName(name);
+		}
+		return operation.inNamespace(namespace).withName(name);
 	}
 }
@@ -0,0 +1,43 @@
+package com.aipaas.anycloud.model.enums;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * <pre>
+ * ClassName : ResourceView
+ * Type : enum
+ * Description : 쿠버네티스 리소스 목록 조회 시 응답 형태를 정의한 enum입니다.
+ *  - FULL : 전체 객체
+ *  - METADATA : metadata만 포함된 PartialObjectMetadataList
+ *  - TABLE : kubectl get과 같은 컬럼 형태의 Table
+ * Related : KubeController, KubeService
+ * </pre>
+ */
+@Getter
+@ToString
+@JsonFormat(shape = JsonFormat.Shape.OBJECT)
+public enum ResourceView {
+	FULL("full", "application/json"),
+	METADATA("metadata",
+		"application/json;as=PartialObjectMetadataList;v=v1;g=meta.k8s.io,application/json"),
+	TABLE("table", "application/json;as=Table;v=v1;g=meta.k8s.io,application/json");
+
+	private final String value;
+	private final String accept;
+
+	ResourceView(String value, String accept) {
+		this.value = value;
+		this.accept = accept;
+	}
+
+	public static ResourceView fromValue(String value) {
+		for (ResourceView view : values()) {
+			if (view.value.equalsIgnoreCase(value)) {
+				return view;
+			}
+		}
+		throw new IllegalArgumentException("Unknown view: " + value);
+	}
+}
@@ -0,0 +1,20 @@
+package com.aipaas.anycloud.model.enums;
+
+/**
+ * <pre>
+ * ClassName : ResultStatus
+ * Type : enum
+ * Description : 여러 클러스터/여러 리소스 종류를 나눠 조회할 때 항목별 조회 결과 상태를 정의한 enum입니다.
+ *  - SUCCESS : 조회 성공
+ *  - FAILED : 조회 중 오류 발생
+ *  - TIMEOUT : 제한 시간 내에 응답하지 않음
+ *  - NOT_FOUND : 클러스터가 등록되어 있지 않음 (다중 클러스터 조회)
+ * Related : FleetResourceDto, BatchResourceDto, KubeServiceImpl
+ * </pre>
+ */
+public enum ResultStatus {
+	SUCCESS,
+	FAILED,
+	TIMEOUT,
+	NOT_FOUND
+}
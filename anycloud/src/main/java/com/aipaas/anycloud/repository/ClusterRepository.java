@@ -1,10 +1,13 @@
 package com.aipaas.anycloud.repository;
 
+import com.aipaas.anycloud.model.dto.response.ClusterSummaryDto;
 import com.aipaas.anycloud.model.entity.ClusterEntity;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * <pre>
@@ -15,8 +18,26 @@ import org.springframework.stereotype.Repository;
  * </pre>
  */
 @Repository
-public interface ClusterRepository extends JpaRepository<ClusterEntity, String> {
+public interface ClusterRepository extends JpaRepository<ClusterEntity, String>, ClusterRepositoryCustom {
 
+	// 접속 정보는 캐시되므로 복제 지연된 값이 캐시되지 않도록 읽기 전용 트랜잭션(replica)을 사용하지 않음
+	@Override
+	@Transactional
 	Optional<ClusterEntity> findById(String id);
 
+	/**
+	 * 목록 조회용으로 접속 정보(server_ca, client_ca, client_key, client_token) 컬럼을 제외하고 조회합니다.
+	 */
+	@Query("SELECT new com.aipaas.anycloud.model.dto.response.ClusterSummaryDto("
+		+ "c.id, c.description, c.status, c.version, c.apiServerUrl, c.apiServerIp, c.monitServerUrl, "
+		+ "c.clusterType, c.clusterProvider, c.createdAt, c.updatedAt) "
+		+ "FROM ClusterEntity c ORDER BY c.id")
+	List<ClusterSummaryDto> findAllSummaries();
+
+	/**
+	 * 주기 점검 대상 선정을 위해 클러스터 ID만 조회합니다.
+	 */
+	@Query("SELECT c.id FROM ClusterEntity c ORDER BY c.id")
+	List<String> findAllIds();
+
 }
@@ -0,0 +1,23 @@
+package com.aipaas.anycloud.repository;
+
+import com.aipaas.anycloud.model.dto.response.ClusterProbeDto;
+import java.util.List;
+
+/**
+ * <pre>
+ * ClassName : ClusterRepositoryCustom
+ * Type : interface
+ * Description : JPA 엔티티 저장 없이 클러스터 상태 컬럼만 갱신하기 위한 인터페이스입니다.
+ * Related : ClusterRepository, ClusterRepositoryImpl
+ * </pre>
+ */
+public interface ClusterRepositoryCustom {
+
+	/**
+	 * 클러스터들의 status, version 컬럼만 하나의 JDBC batch로 갱신합니다.
+	 *
+	 * @param probes 갱신할 클러스터 점검 결과
+	 * @return 갱신된 행 수
+	 */
+	int updateStatuses(List<ClusterProbeDto> probes);
+}
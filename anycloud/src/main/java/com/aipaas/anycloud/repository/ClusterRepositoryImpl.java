@@ -0,0 +1,45 @@
+package com.aipaas.anycloud.repository;
+
+import com.aipaas.anycloud.model.dto.response.ClusterProbeDto;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * <pre>
+ * ClassName : ClusterRepositoryImpl
+ * Type : class
+ * Description : ClusterRepositoryCustom의 JdbcTemplate 구현 클래스입니다.
+ *  - 인증서/토큰 컬럼을 다시 쓰지 않도록 status, version 컬럼만 갱신
+ *  - 상태 점검 결과 반영은 설정 변경이 아니므로 updated_at은 유지
+ * Related : ClusterRepository, ClusterServiceImpl
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class ClusterRepositoryImpl implements ClusterRepositoryCustom {
+
+	private static final String UPDATE_STATUS_SQL =
+		"UPDATE aipaas.cluster SET status = ?, version = ?, updated_at = updated_at WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public int updateStatuses(List<ClusterProbeDto> probes) {
+		if (probes.isEmpty()) {
+			return 0;
+		}
+		int[][] counts = jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, probes, probes.size(), (ps, probe) -> {
+			ps.setString(1, probe.getStatus());
+			ps.setString(2, probe.getVersion());
+			ps.setString(3, probe.getClusterName());
+		});
+		int updated = 0;
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				// 드라이버가 개수를 알려주지 않는 경우(SUCCESS_NO_INFO)는 1건으로 계산
+				updated += count < 0 ? 1 : count;
+			}
+		}
+		return updated;
+	}
+}
@@ -0,0 +1,56 @@
+package com.aipaas.anycloud.repository;
+
+import com.aipaas.anycloud.model.entity.SchedulerMemberEntity;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <pre>
+ * ClassName : SchedulerMemberRepository
+ * Type : interface
+ * Description : SchedulerMember JPA 구현을 위한 인터페이스입니다.
+ * Related : spring-boot-starter-data-jpa
+ * </pre>
+ */
+@Repository
+public interface SchedulerMemberRepository extends JpaRepository<SchedulerMemberEntity, String> {
+
+	/**
+	 * heartbeat 시각을 DB 시각으로 갱신합니다. 인스턴스 간 시계 차이의 영향을 받지 않도록 CURRENT_TIMESTAMP를 사용합니다.
+	 *
+	 * @return 갱신된 행 수 (등록되지 않은 인스턴스면 0)
+	 */
+	@Transactional
+	@Modifying
+	@Query("update SchedulerMemberEntity m set m.heartbeatAt = CURRENT_TIMESTAMP where m.id = :id")
+	int touch(@Param("id") String id);
+
+	@Transactional
+	@Modifying
+	@Query("insert into SchedulerMemberEntity (id, startedAt, heartbeatAt) values (:id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)")
+	int register(@Param("id") String id);
+
+	/**
+	 * DB가 기록한 heartbeat 시각을 조회합니다. 만료 기준 시각은 이 값을 기준으로 계산합니다.
+	 */
+	@Transactional
+	@Query("select m.heartbeatAt from SchedulerMemberEntity m where m.id = :id")
+	Optional<Instant> findHeartbeatAt(@Param("id") String id);
+
+	// 복제 지연으로 인스턴스마다 다른 목록을 보지 않도록 읽기 전용 트랜잭션(replica)을 사용하지 않음
+	@Transactional
+	@Query("select m.id from SchedulerMemberEntity m where m.heartbeatAt >= :threshold order by m.id")
+	List<String> findAliveMemberIds(@Param("threshold") Instant threshold);
+
+	@Transactional
+	@Modifying
+	@Query("delete from SchedulerMemberEntity m where m.heartbeatAt < :threshold")
+	int deleteExpired(@Param("threshold") Instant threshold);
+}
@@ -35,6 +35,16 @@ public interface ChartService {
      */
     ChartDetailDto getChartDetail(String repositoryName, String chartName, String version);
 
+    /**
+     * 등록된 모든 repository에서 차트를 검색합니다.
+     *
+     * @param query 검색어 (차트 이름, 키워드, 설명)
+     * @param page  페이지 번호 (0부터 시작)
+     * @param size  페이지 크기 (선택사항)
+     * @return 점수 순으로 정렬된 검색 결과
+     */
+    ChartSearchDto searchCharts(String query, int page, Integer size);
+
     /**
      * 지정된 차트의 values.yaml 내용을 조회합니다.
      *
@@ -2,6 +2,10 @@ package com.aipaas.anycloud.service;
 
 import com.aipaas.anycloud.model.dto.request.CreateClusterDto;
 import com.aipaas.anycloud.model.dto.request.UpdateClusterDto;
+import com.aipaas.anycloud.model.dto.response.ClusterProbeDto;
+import com.aipaas.anycloud.model.dto.response.ClusterProbeStatsDto;
+import com.aipaas.anycloud.model.dto.response.ClusterStatusHistoryDto;
+import com.aipaas.anycloud.model.dto.response.ClusterSummaryDto;
 import com.aipaas.anycloud.model.entity.ClusterEntity;
 import java.util.List;
 import org.springframework.http.HttpStatus;
@@ -18,7 +22,7 @@ import org.springframework.stereotype.Component;
 @Component
 public interface ClusterService {
 
-	List<ClusterEntity> getClusters();
+	List<ClusterSummaryDto> getClusters();
 
 	ClusterEntity getCluster(String clusterName);
 
@@ -35,4 +39,10 @@ public interface ClusterService {
 	HttpStatus refreshClusterStatus(String clusterName);
 
 	void updateAllClusterStatuses();
+
+	List<ClusterProbeDto> getClusterProbes();
+
+	List<ClusterStatusHistoryDto> getClusterStatusHistory(String clusterName);
+
+	ClusterProbeStatsDto getClusterProbeStats(String clusterName, List<String> windows);
 }
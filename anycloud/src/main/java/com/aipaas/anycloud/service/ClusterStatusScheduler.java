@@ -1,6 +1,7 @@
 package com.aipaas.anycloud.service;
 
 import com.aipaas.anycloud.service.Impl.ClusterServiceImpl;
+import com.aipaas.anycloud.util.KubernetesProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -12,10 +13,15 @@ import org.springframework.stereotype.Service;
 public class ClusterStatusScheduler {
 
   private final ClusterServiceImpl clusterServiceImpl;
+  private final KubernetesProperties kubernetesProperties;
 
-  @Scheduled(fixedRate = 300000) // 5분마다 실행 (300000ms)
+  // 이전 점검이 끝난 뒤부터 주기를 계산하여 점검이 겹치지 않도록 함, 클러스터별 점검 간격은 ClusterHealthProber가 결정
+  @Scheduled(fixedDelayString = "${kubernetes.status-sweep.interval:30000}")
   public void updateClusterStatuses() {
+    if (!kubernetesProperties.getStatusSweep().isEnabled()) {
+      return;
+    }
     log.info("Starting scheduled cluster status update");
-    // clusterServiceImpl.updateAllClusterStatuses(); // 공인인증 이후 주석 해제 예정
+    clusterServiceImpl.updateAllClusterStatuses();
   }
 }
@@ -11,15 +11,18 @@ import com.aipaas.anycloud.service.ChartService;
 import com.aipaas.anycloud.service.ClusterService;
 import com.aipaas.anycloud.service.HelmRepoService;
 import com.aipaas.anycloud.service.util.HelmCommandExecutor;
+import com.aipaas.anycloud.service.util.HelmIndexCache;
 import com.aipaas.anycloud.service.util.HelmReleaseScanner;
+import com.aipaas.anycloud.service.util.HelmRepositoryManager;
 import com.aipaas.anycloud.service.util.ChartValidator;
 import com.aipaas.anycloud.service.util.ChartParser;
+import com.aipaas.anycloud.service.util.ChartSearchIndex;
 import com.aipaas.anycloud.service.util.DeploymentOrchestrator;
+import com.aipaas.anycloud.service.util.KubernetesClientRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -28,7 +31,6 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Base64;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -50,12 +52,15 @@ public class ChartServiceImpl implements ChartService {
     private final HelmRepoService helmRepoService;
     private final ClusterService clusterService;
 
-    private final RestTemplate restTemplate;
     private final HelmCommandExecutor helmCommandExecutor;
+    private final HelmRepositoryManager helmRepositoryManager;
+    private final HelmIndexCache helmIndexCache;
+    private final ChartSearchIndex chartSearchIndex;
     private final ChartValidator chartValidator;
     private final ChartParser chartParser;
     private final DeploymentOrchestrator deploymentOrchestrator;
     private final HelmReleaseScanner helmReleaseScanner;
+    private final KubernetesClientRegistry kubernetesClientRegistry;
 
     @Override
     public ChartListDto getChartList(String repositoryName) {
@@ -64,32 +69,8 @@ public class ChartServiceImpl implements ChartService {
         HelmRepoEntity repository = getRepository(repositoryName);
 
         try {
-            // Helm repository의 index.yaml을 다운로드하여 파싱
-            String indexUrl = repository.getUrl().endsWith("/") ? repository.getUrl() + "index.yaml"
-                    : repository.getUrl() + "/index.yaml";
-
-            log.debug("Fetching index.yaml from URL: {}", indexUrl);
-
-            HttpHeaders headers = createAuthHeaders(repository);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    indexUrl,
-                    HttpMethod.GET,
-                    entity,
-                    String.class);
-
-            log.debug("Response status: {}, Content length: {}",
-                    response.getStatusCode(),
-                    response.getBody() != null ? response.getBody().length() : 0);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return chartParser.parseIndexYaml(repositoryName, response.getBody());
-            } else {
-                throw new HelmChartNotFoundException(
-                        "Unable to fetch index.yaml from repository: " + repositoryName +
-                                " (HTTP " + response.getStatusCode() + ")");
-            }
+            // 캐시된 index.yaml 사용 (유지 시간이 지났으면 조건부 요청으로 변경 여부 확인)
+            return chartParser.parseIndexYaml(repositoryName, helmIndexCache.get(repository));
 
         } catch (HelmChartNotFoundException e) {
             throw e;
@@ -109,32 +90,8 @@ public class ChartServiceImpl implements ChartService {
         HelmRepoEntity repository = getRepository(repositoryName);
 
         try {
-            // Helm repository의 index.yaml을 다운로드하여 파싱
-            String indexUrl = repository.getUrl().endsWith("/") ? repository.getUrl() + "index.yaml"
-                    : repository.getUrl() + "/index.yaml";
-
-            log.debug("Fetching index.yaml from URL: {}", indexUrl);
-
-            HttpHeaders headers = createAuthHeaders(repository);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    indexUrl,
-                    HttpMethod.GET,
-                    entity,
-                    String.class);
-
-            log.debug("Response status: {}, Content length: {}",
-                    response.getStatusCode(),
-                    response.getBody() != null ? response.getBody().length() : 0);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return chartParser.parseChartDetail(repositoryName, chartName, version, response.getBody());
-            } else {
-                throw new HelmChartNotFoundException(
-                        "Unable to fetch index.yaml from repository: " + repositoryName +
-                                " (HTTP " + response.getStatusCode() + ")");
-            }
+            // 캐시된 index.yaml 사용 (차트 목록 조회와 같은 캐시)
+            return chartParser.parseChartDetail(repositoryName, chartName, version, helmIndexCache.get(repository));
 
         } catch (HelmChartNotFoundException e) {
             throw e;
@@ -147,6 +104,11 @@ public class ChartServiceImpl implements ChartService {
         }
     }
 
+    @Override
+    public ChartSearchDto searchCharts(String query, int page, Integer size) {
+        return chartSearchIndex.search(query, page, size);
+    }
+
     @Override
     public ChartValuesDto getChartValues(String repositoryName, String chartName, String version) {
         log.info("Getting values for chart: {}/{}, version: {}", repositoryName, chartName, version);
@@ -156,7 +118,8 @@ public class ChartServiceImpl implements ChartService {
         try {
             // Helm CLI를 사용하여 values.yaml 조회
             String command = helmCommandExecutor.buildHelmShowCommand("values", repository, chartName, version);
-            String valuesContent = helmCommandExecutor.executeHelmCommandWithoutKubeconfig(command);
+            String valuesContent = helmCommandExecutor.executeHelmCommandWithoutKubeconfig(command,
+                    helmRepositoryManager.environment(repository));
 
             return ChartValuesDto.builder()
                     .repositoryName(repositoryName)
@@ -180,7 +143,8 @@ public class ChartServiceImpl implements ChartService {
         try {
             // Helm CLI를 사용하여 README.md 조회
             String command = helmCommandExecutor.buildHelmShowCommand("readme", repository, chartName, version);
-            String readmeContent = helmCommandExecutor.executeHelmCommandWithoutKubeconfig(command);
+            String readmeContent = helmCommandExecutor.executeHelmCommandWithoutKubeconfig(command,
+                    helmRepositoryManager.environment(repository));
 
             return ChartReadmeDto.builder()
                     .repositoryName(repositoryName)
@@ -209,8 +173,7 @@ public class ChartServiceImpl implements ChartService {
             String testKubeconfigPath = createKubeconfigFile(cluster);
 
             try {
-                KubernetesClientConfig manager = new KubernetesClientConfig(cluster);
-                KubernetesClient client = manager.getClient();
+                KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
                 client.getApiVersion();
 
                 // 전체 배포 사전 검증 수행
@@ -334,18 +297,6 @@ public class ChartServiceImpl implements ChartService {
         }
     }
 
-    private HttpHeaders createAuthHeaders(HelmRepoEntity repository) {
-        HttpHeaders headers = new HttpHeaders();
-
-        if (repository.getUsername() != null && repository.getPassword() != null) {
-            String auth = repository.getUsername() + ":" + repository.getPassword();
-            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-            headers.set("Authorization", "Basic " + encodedAuth);
-        }
-
-        return headers;
-    }
-
     @Override
     public ChartReleasesResponseDto getReleases(String clusterId, String namespace) {
         log.info("Getting releases for cluster: {}, namespace: {}", clusterId, namespace);
@@ -1,25 +1,46 @@
 package com.aipaas.anycloud.service.Impl;
 
-import com.aipaas.anycloud.configuration.bean.KubernetesClientConfig;
 import com.aipaas.anycloud.error.enums.ErrorCode;
 import com.aipaas.anycloud.error.exception.ClusterNotFoundException;
 import com.aipaas.anycloud.error.exception.CustomException;
 import com.aipaas.anycloud.error.exception.EntityNotFoundException;
 import com.aipaas.anycloud.model.dto.request.CreateClusterDto;
 import com.aipaas.anycloud.model.dto.request.UpdateClusterDto;
+import com.aipaas.anycloud.model.dto.response.ClusterProbeDto;
+import com.aipaas.anycloud.model.dto.response.ClusterProbeStatsDto;
+import com.aipaas.anycloud.model.dto.response.ClusterStatusHistoryDto;
+import com.aipaas.anycloud.model.dto.response.ClusterSummaryDto;
 import com.aipaas.anycloud.model.entity.ClusterEntity;
 import com.aipaas.anycloud.repository.ClusterRepository;
 import com.aipaas.anycloud.service.ClusterService;
+import com.aipaas.anycloud.service.util.ClusterEntityCache;
+import com.aipaas.anycloud.service.util.ClusterHealthProber;
+import com.aipaas.anycloud.service.util.ClusterProbeStats;
+import com.aipaas.anycloud.service.util.ClusterShardCoordinator;
+import com.aipaas.anycloud.service.util.ClusterStatusHistory;
+import com.aipaas.anycloud.service.util.KubernetesClientRegistry;
 import com.aipaas.anycloud.util.Common;
-import io.fabric8.kubernetes.client.KubernetesClient;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -36,26 +57,41 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ClusterServiceImpl implements ClusterService {
 
+	// 통계 기간 (예: 30s, 5m, 1h, 7d)
+	private static final Pattern WINDOW_PATTERN = Pattern.compile("(\\d{1,6})([smhd])");
+	private static final List<String> DEFAULT_STATS_WINDOWS = List.of("5m", "1h", "24h");
+
 	private final ClusterRepository clusterRepository;
+	private final KubernetesClientRegistry kubernetesClientRegistry;
+	private final KubernetesProperties kubernetesProperties;
+	private final ClusterHealthProber clusterHealthProber;
+	private final ClusterStatusHistory clusterStatusHistory;
+	private final ClusterProbeStats clusterProbeStats;
+	private final ClusterShardCoordinator clusterShardCoordinator;
+	private final ClusterEntityCache clusterEntityCache;
+
+	// 클러스터 상태 점검용 실행기 (점검마다 가상 스레드 하나)
+	private final ExecutorService probeExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
 	/**
 	 * [ClusterServiceImpl] 쿠버네티스 클러스터 전체 목록 함수
 	 *
-	 * @return 전체 쿠버네티스 클러스터 목록을 반환합니다.
+	 * @return 접속 정보를 제외한 전체 쿠버네티스 클러스터 목록을 반환합니다.
 	 */
 	@Transactional(readOnly = true)
-	public List<ClusterEntity> getClusters() {
-		return clusterRepository.findAll();
+	public List<ClusterSummaryDto> getClusters() {
+		return clusterRepository.findAllSummaries();
 	}
 
 	/**
 	 * [ClusterServiceImpl] 클러스터 단일 조회 함수
+	 * 요청마다 호출되므로 캐시에서 조회하며, 캐시에 있으면 트랜잭션을 시작하지 않습니다.
 	 *
 	 * @return 쿠버네티스 클러스터를 조회합니다.
 	 */
-	@Transactional(readOnly = true)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public ClusterEntity getCluster(String clusterName) {
-		return clusterRepository.findById(clusterName).orElseThrow(
+		return clusterEntityCache.get(clusterName).orElseThrow(
 				() -> new ClusterNotFoundException(clusterName));
 	}
 
@@ -91,8 +127,9 @@ public class ClusterServiceImpl implements ClusterService {
 				.build();
 
 		try {
-			// 먼저 클러스터를 저장
-			clusterRepository.save(clusterEntity);
+			// 먼저 클러스터를 저장 (상태 컬럼 갱신이 같은 트랜잭션에서 반영되도록 즉시 flush)
+			clusterRepository.saveAndFlush(clusterEntity);
+			clusterEntityCache.invalidate(clusterEntity.getId());
 			log.info("Cluster {} saved successfully, initiating background status update", clusterEntity.getId());
 
 			// 비동기적으로 Kubernetes 버전 조회 및 상태 업데이트
@@ -128,11 +165,13 @@ public class ClusterServiceImpl implements ClusterService {
 
 		// 3. 데이터베이스에 저장
 		clusterRepository.save(clusterEntity);
+		clusterEntityCache.invalidate(clusterName);
 		log.info("Successfully saved updated cluster: {}", clusterName);
 
-		// 4. 연결 정보가 변경된 경우 연결 테스트 수행
+		// 4. 연결 정보가 변경된 경우 기존 클라이언트를 정리하고 연결 테스트 수행
 		if (isConnectionInfoChanged(updateDto)) {
 			log.info("Connection info changed, performing connection test for: {}", clusterName);
+			kubernetesClientRegistry.invalidate(clusterName);
 			updateClusterVersionAndStatusAsync(clusterEntity);
 		}
 
@@ -182,7 +221,8 @@ public class ClusterServiceImpl implements ClusterService {
 		return updateDto.getApiServerUrl() != null ||
 				updateDto.getServerCA() != null ||
 				updateDto.getClientCA() != null ||
-				updateDto.getClientKey() != null;
+				updateDto.getClientKey() != null ||
+				updateDto.getClientToken() != null;
 	}
 
 	/**
@@ -194,6 +234,10 @@ public class ClusterServiceImpl implements ClusterService {
 	public HttpStatus deleteCluster(String clusterName) {
 		clusterRepository.delete(clusterRepository.findById(clusterName).orElseThrow(
 				() -> new ClusterNotFoundException(clusterName)));
+		clusterEntityCache.invalidate(clusterName);
+		kubernetesClientRegistry.invalidate(clusterName);
+		clusterStatusHistory.remove(clusterName);
+		clusterProbeStats.remove(clusterName);
 		return HttpStatus.OK;
 	}
 
@@ -216,25 +260,16 @@ public class ClusterServiceImpl implements ClusterService {
 		log.info("Testing connection for cluster: {}", clusterName);
 
 		try {
-			ClusterEntity cluster = clusterRepository.findById(clusterName).orElseThrow(
-					() -> new ClusterNotFoundException(clusterName));
-
-			KubernetesClientConfig manager = new KubernetesClientConfig(cluster);
-			KubernetesClient client = manager.getClient();
-
-			try {
-				// 실제 API 호출로 연결 테스트
-				client.namespaces().list();
-				client.nodes().list();
+			ClusterEntity cluster = getCluster(clusterName);
 
+			// 짧은 시간 안의 점검 결과가 있으면 재사용하고, 동시에 들어온 요청은 하나의 점검 결과를 공유
+			ClusterProbeDto probe = clusterHealthProber.getStatus(cluster);
+			if (ClusterHealthProber.STATUS_ACTIVE.equals(probe.getStatus())) {
 				log.info("Connection test successful for cluster: {}", clusterName);
 				return true;
-			} catch (Exception e) {
-				log.warn("Connection test failed for cluster {}: {}", clusterName, e.getMessage());
-				return false;
-			} finally {
-				manager.closeClient();
 			}
+			log.warn("Connection test failed for cluster {}: {}", clusterName, probe.getMessage());
+			return false;
 		} catch (EntityNotFoundException e) {
 			log.warn("Cluster not found for connection test: {}", clusterName);
 			throw e;
@@ -250,6 +285,7 @@ public class ClusterServiceImpl implements ClusterService {
 	 * @param clusterName 업데이트할 클러스터 이름
 	 * @return 업데이트 결과
 	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public HttpStatus refreshClusterStatus(String clusterName) {
 		log.info("Starting forced status refresh for cluster: {}", clusterName);
 
@@ -300,61 +336,75 @@ public class ClusterServiceImpl implements ClusterService {
 	public void updateClusterVersionAndStatus(ClusterEntity clusterEntity) {
 		log.info("Updating version and status for cluster: {}", clusterEntity.getId());
 
-		KubernetesClientConfig manager = new KubernetesClientConfig(clusterEntity);
-		KubernetesClient client = manager.getClient();
-
-		try {
-			// 클러스터 상태 확인 (간단한 API 호출)
-			client.namespaces().list();
-
-			// Kubernetes 클러스터 버전 정보 조회
-			String version = "Unknown";
-			try {
-				// /version 엔드포인트를 통해 실제 클러스터 버전 조회
-				var versionInfo = client.getKubernetesVersion();
-				if (versionInfo != null && versionInfo.getGitVersion() != null) {
-					version = versionInfo.getGitVersion();
-				}
-			} catch (Exception versionException) {
-				log.warn("Failed to get Kubernetes version for cluster {}: {}",
-						clusterEntity.getId(), versionException.getMessage());
-				version = "Version Unknown";
-			}
-
-			// 상태와 버전 업데이트
-			clusterEntity.setStatus("ACTIVE");
-			clusterEntity.setVersion(version);
-
-			clusterRepository.save(clusterEntity);
-			log.info("Successfully updated cluster {} - Status: {}, Version: {}",
-					clusterEntity.getId(), clusterEntity.getStatus(), clusterEntity.getVersion());
-
-		} catch (Exception e) {
-			log.error("Failed to update cluster {}: {}", clusterEntity.getId(), e.getMessage(), e);
-			clusterEntity.setStatus("INACTIVE");
-			clusterEntity.setVersion("UNKNOWN");
-			clusterRepository.save(clusterEntity);
-		} finally {
-			manager.closeClient();
+		ClusterProbeDto probe = clusterHealthProber.probe(clusterEntity);
+		if (applyProbe(clusterEntity, probe)) {
+			saveStatuses(List.of(probe));
 		}
+		log.info("Successfully updated cluster {} - Status: {}, Version: {}",
+				clusterEntity.getId(), clusterEntity.getStatus(), clusterEntity.getVersion());
 	}
 
 	/**
 	 * [ClusterServiceImpl] 모든 클러스터의 상태 업데이트 함수
+	 * 점검 시각이 된 클러스터만 가상 스레드에서 동시에 점검하며, 동시 점검 수는 설정 값을 따릅니다.
+	 * 점검 중에 트랜잭션을 유지하지 않도록 트랜잭션 없이 실행합니다.
 	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void updateAllClusterStatuses() {
-		log.info("Starting periodic cluster status update");
+		long started = System.currentTimeMillis();
+
+		// 이 인스턴스가 담당하는 클러스터 중 점검 시각이 된 클러스터만 점검
+		// (정상 클러스터는 일정 주기로, 응답하지 않는 클러스터는 백오프 간격으로)
+		// 대상 선정은 ID만으로 하고, 접속 정보 컬럼은 점검할 클러스터만 조회
+		List<String> dueIds = clusterRepository.findAllIds().stream()
+				.filter(clusterShardCoordinator::owns)
+				.filter(clusterHealthProber::isDue)
+				.toList();
+		if (dueIds.isEmpty()) {
+			return;
+		}
+		List<ClusterEntity> clusters = clusterRepository.findAllById(dueIds);
+		log.info("Starting periodic cluster status update for {} clusters", clusters.size());
 
-		List<ClusterEntity> clusters = clusterRepository.findAll();
+		Semaphore permits = new Semaphore(kubernetesProperties.getStatusSweep().getParallelism());
+		List<Future<ClusterProbeDto>> futures = new ArrayList<>();
 		for (ClusterEntity cluster : clusters) {
+			futures.add(probeExecutor.submit(() -> {
+				permits.acquire();
+				try {
+					return clusterHealthProber.probe(cluster);
+				} finally {
+					permits.release();
+				}
+			}));
+		}
+
+		// 상태나 버전이 바뀐 클러스터만 모아 한 번의 batch update로 반영
+		int active = 0;
+		List<ClusterProbeDto> changed = new ArrayList<>();
+		for (int i = 0; i < futures.size(); i++) {
 			try {
-				updateClusterStatus(cluster);
-			} catch (Exception e) {
-				log.error("Failed to update status for cluster {}: {}", cluster.getId(), e.getMessage());
+				ClusterProbeDto probe = futures.get(i).get();
+				if (ClusterHealthProber.STATUS_ACTIVE.equals(probe.getStatus())) {
+					active++;
+				}
+				if (applyProbe(clusters.get(i), probe)) {
+					changed.add(probe);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("Cluster status update interrupted");
+				return;
+			} catch (ExecutionException e) {
+				log.error("Failed to update status for cluster {}: {}", clusters.get(i).getId(),
+						e.getCause().getMessage());
 			}
 		}
 
-		log.info("Completed periodic cluster status update for {} clusters", clusters.size());
+		saveStatuses(changed);
+
+		log.info("Completed periodic cluster status update for {} clusters ({} active, {} changed) in {} ms",
+				clusters.size(), active, changed.size(), System.currentTimeMillis() - started);
 	}
 
 	/**
@@ -365,40 +415,115 @@ public class ClusterServiceImpl implements ClusterService {
 	public void updateClusterStatus(ClusterEntity clusterEntity) {
 		log.info("Updating status and version for cluster: {}", clusterEntity.getId());
 
-		KubernetesClientConfig manager = new KubernetesClientConfig(clusterEntity);
-		KubernetesClient client = manager.getClient();
+		ClusterProbeDto probe = clusterHealthProber.probe(clusterEntity);
+		if (applyProbe(clusterEntity, probe)) {
+			saveStatuses(List.of(probe));
+		}
+		log.info("Cluster {} status updated to {}, version: {}", clusterEntity.getId(),
+				clusterEntity.getStatus(), clusterEntity.getVersion());
+	}
 
-		try {
-			// 간단한 API 호출로 연결 상태 확인
-			client.namespaces().list();
+	/**
+	 * [ClusterServiceImpl] 클러스터별 마지막 상태 점검 결과 조회 함수
+	 *
+	 * @return 클러스터별 마지막 상태 점검 결과 목록을 반환합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<ClusterProbeDto> getClusterProbes() {
+		return clusterHealthProber.getLastProbes();
+	}
 
-			// Kubernetes 클러스터 버전 정보 조회
-			String version = "Unknown";
-			try {
-				// /version 엔드포인트를 통해 실제 클러스터 버전 조회
-				var versionInfo = client.getKubernetesVersion();
-				if (versionInfo != null && versionInfo.getGitVersion() != null) {
-					version = versionInfo.getGitVersion();
-				}
-			} catch (Exception versionException) {
-				log.warn("Failed to get Kubernetes version for cluster {}: {}",
-						clusterEntity.getId(), versionException.getMessage());
-				version = "Version Unknown";
-			}
+	@PreDestroy
+	public void shutdownProbeExecutor() {
+		probeExecutor.shutdownNow();
+	}
 
-			// 상태와 버전 업데이트
-			clusterEntity.setStatus("ACTIVE");
-			clusterEntity.setVersion(version);
-			clusterRepository.save(clusterEntity);
-			log.info("Cluster {} status updated to ACTIVE, version: {}", clusterEntity.getId(), version);
+	/**
+	 * [ClusterServiceImpl] 클러스터 상태 변경 이력 조회 함수
+	 *
+	 * @return 클러스터의 상태/버전 변경 이력을 최근 순으로 반환합니다.
+	 */
+	@Transactional(readOnly = true)
+	public List<ClusterStatusHistoryDto> getClusterStatusHistory(String clusterName) {
+		if (!clusterRepository.existsById(clusterName)) {
+			throw new ClusterNotFoundException(clusterName);
+		}
+		return clusterStatusHistory.get(clusterName);
+	}
 
-		} catch (Exception e) {
-			log.warn("Cluster {} is not accessible: {}", clusterEntity.getId(), e.getMessage());
-			clusterEntity.setStatus("INACTIVE");
-			clusterEntity.setVersion("UNKNOWN");
-			clusterRepository.save(clusterEntity);
-		} finally {
-			manager.closeClient();
+	/**
+	 * [ClusterServiceImpl] 클러스터 상태 점검 통계 조회 함수
+	 *
+	 * @param clusterName 클러스터 이름
+	 * @param windows     통계 기간 목록 (예: 5m, 1h, 24h, 7d, 비어 있으면 기본 기간)
+	 * @return 기간별 가용성과 API 응답 시간 백분위수를 반환합니다.
+	 */
+	@Transactional(readOnly = true)
+	public ClusterProbeStatsDto getClusterProbeStats(String clusterName, List<String> windows) {
+		if (!clusterRepository.existsById(clusterName)) {
+			throw new ClusterNotFoundException(clusterName);
+		}
+		List<ClusterProbeStatsDto.WindowStats> stats = new ArrayList<>();
+		for (String window : windows == null || windows.isEmpty() ? DEFAULT_STATS_WINDOWS : windows) {
+			stats.add(clusterProbeStats.stats(clusterName, window.trim(), parseWindow(window)));
+		}
+		return ClusterProbeStatsDto.builder()
+				.clusterName(clusterName)
+				.capacity(clusterProbeStats.capacity())
+				.retained(clusterProbeStats.retained(clusterName))
+				.windows(stats)
+				.build();
+	}
+
+	/**
+	 * 5m, 1h, 24h, 7d 형식의 기간을 ms로 변환합니다.
+	 */
+	private static long parseWindow(String window) {
+		Matcher matcher = window == null ? null : WINDOW_PATTERN.matcher(window.trim());
+		if (matcher == null || !matcher.matches() || Long.parseLong(matcher.group(1)) <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "windows", window,
+					"기간은 1 이상의 숫자와 단위(s, m, h, d)로 지정해야 합니다. 예: 5m, 1h, 24h");
+		}
+		long value = Long.parseLong(matcher.group(1));
+		return switch (matcher.group(2)) {
+			case "s" -> Duration.ofSeconds(value).toMillis();
+			case "m" -> Duration.ofMinutes(value).toMillis();
+			case "h" -> Duration.ofHours(value).toMillis();
+			default -> Duration.ofDays(value).toMillis();
+		};
+	}
+
+	/**
+	 * 바뀐 상태/버전을 저장하고 캐시된 엔티티를 제거합니다.
+	 */
+	private void saveStatuses(List<ClusterProbeDto> probes) {
+		clusterRepository.updateStatuses(probes);
+		probes.forEach(probe -> clusterEntityCache.invalidate(probe.getClusterName()));
+	}
+
+	/**
+	 * 점검 결과를 클러스터 엔티티에 반영합니다. 저장은 호출하는 쪽에서 status, version 컬럼만 갱신합니다.
+	 *
+	 * @return 상태나 버전이 바뀌었으면 true
+	 */
+	private boolean applyProbe(ClusterEntity clusterEntity, ClusterProbeDto probe) {
+		if (Objects.equals(clusterEntity.getStatus(), probe.getStatus())
+				&& Objects.equals(clusterEntity.getVersion(), probe.getVersion())) {
+			return false;
 		}
+		log.info("Cluster {} changed: {} ({}) -> {} ({})", clusterEntity.getId(), clusterEntity.getStatus(),
+				clusterEntity.getVersion(), probe.getStatus(), probe.getVersion());
+		clusterStatusHistory.record(ClusterStatusHistoryDto.builder()
+				.clusterName(clusterEntity.getId())
+				.previousStatus(clusterEntity.getStatus())
+				.status(probe.getStatus())
+				.previousVersion(clusterEntity.getVersion())
+				.version(probe.getVersion())
+				.message(probe.getMessage())
+				.changedAt(probe.getProbedAt())
+				.build());
+		clusterEntity.setStatus(probe.getStatus());
+		clusterEntity.setVersion(probe.getVersion());
+		return true;
 	}
 }
@@ -7,6 +7,9 @@ import com.aipaas.anycloud.model.dto.request.CreateHelmRepoDto;
 import com.aipaas.anycloud.model.entity.HelmRepoEntity;
 import com.aipaas.anycloud.repository.HelmRepoRepository;
 import com.aipaas.anycloud.service.HelmRepoService;
+import com.aipaas.anycloud.service.util.ChartSearchIndex;
+import com.aipaas.anycloud.service.util.HelmIndexCache;
+import com.aipaas.anycloud.service.util.HelmRepositoryManager;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,8 +17,11 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * <pre>
@@ -31,7 +37,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class HelmRepoServiceImpl implements HelmRepoService {
 
+	// /charts/{repoName} 경로와 겹치는 차트 API 경로 (/charts/search)
+	private static final Set<String> RESERVED_NAMES = Set.of("search");
+
 	private final HelmRepoRepository helmRepoRepository;
+	private final HelmRepositoryManager helmRepositoryManager;
+	private final HelmIndexCache helmIndexCache;
+	private final ChartSearchIndex chartSearchIndex;
 
 	/**
 	 * [HelmRepoServiceImpl] 헬름저장소 전체 목록 함수
@@ -69,6 +81,11 @@ public class HelmRepoServiceImpl implements HelmRepoService {
 
 		log.error(isHelmExist(helmRepo.getName()).toString());
 
+		if (helmRepo.getName() != null && RESERVED_NAMES.contains(helmRepo.getName().toLowerCase())) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "name", helmRepo.getName(),
+					"HelmRepo name " + helmRepo.getName() + " is reserved.");
+		}
+
 		if (isHelmExist(helmRepo.getName())) {
 			// throw new CustomException(ErrorCode.DUPLICATE);
 			throw new CustomException(ErrorCode.DUPLICATE, "name", helmRepo.getName(), "HelmRepo with Name " + helmRepo.getName() + " Already Exists.");
@@ -90,6 +107,9 @@ public class HelmRepoServiceImpl implements HelmRepoService {
 			log.error(e.getMessage());
 			throw new CustomException(ErrorCode.DATA_INTEGRITY);
 		}
+
+		// 저장소를 미리 등록해 두어 차트 조회/배포 시 helm repo add를 수행하지 않도록 함
+		helmRepositoryManager.addAsync(helmRepoEntity);
 		return HttpStatus.CREATED;
 	}
 
@@ -100,10 +120,28 @@ public class HelmRepoServiceImpl implements HelmRepoService {
 	 */
 	@Transactional
 	public HttpStatus deleteHelmRepo(String helmRepoName) {
-		helmRepoRepository.delete(helmRepoRepository.findByName(helmRepoName).orElseThrow(
+		HelmRepoEntity helmRepoEntity = helmRepoRepository.findByName(helmRepoName).orElseThrow(
 				// () -> new EntityNotFoundException("HelmRepo with Name " + helmRepoName + " Not Found.")
 				() -> new CustomException(ErrorCode.ENTITY_NOT_FOUND, "name", helmRepoName, "HelmRepo with Name " + helmRepoName + " Not Found.")
-				));
+				);
+		helmRepoRepository.delete(helmRepoEntity);
+		helmRepositoryManager.remove(helmRepoEntity);
+		// 롤백되면 검색 색인을 유지해야 하므로 커밋 후에 제외 (색인에서 먼저 제외해야 갱신 중에 캐시가 다시 만들어지지 않음)
+		String repositoryId = helmRepoEntity.getId();
+		Runnable task = () -> {
+			chartSearchIndex.remove(repositoryId);
+			helmIndexCache.invalidate(repositoryId);
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+		} else {
+			task.run();
+		}
 		return HttpStatus.OK;
 	}
 
@@ -1,19 +1,74 @@
 package com.aipaas.anycloud.service.Impl;
 
-import com.aipaas.anycloud.configuration.bean.KubernetesClientConfig;
+import com.aipaas.anycloud.error.enums.ErrorCode;
 import com.aipaas.anycloud.error.exception.ClusterNotFoundException;
+import com.aipaas.anycloud.error.exception.CustomException;
+import com.aipaas.anycloud.model.dto.request.BulkDeleteRequestDto;
+import com.aipaas.anycloud.model.dto.request.PodLogRequestDto;
+import com.aipaas.anycloud.model.dto.request.ResourceListRequestDto;
+import com.aipaas.anycloud.model.dto.response.BatchResourceDto;
+import com.aipaas.anycloud.model.dto.response.BulkDeleteResultDto;
+import com.aipaas.anycloud.model.dto.response.ClusterProbeDto;
+import com.aipaas.anycloud.model.dto.response.ClusterSummaryDto;
+import com.aipaas.anycloud.model.dto.response.FleetResourceDto;
+import com.aipaas.anycloud.model.dto.response.ResourceResultDto;
 import com.aipaas.anycloud.model.entity.ClusterEntity;
 import com.aipaas.anycloud.model.enums.ResourceType;
+import com.aipaas.anycloud.model.enums.ResourceView;
+import com.aipaas.anycloud.model.enums.ResultStatus;
 import com.aipaas.anycloud.service.ClusterService;
 import com.aipaas.anycloud.service.KubeService;
+import com.aipaas.anycloud.service.util.ClusterHealthProber;
+import com.aipaas.anycloud.service.util.KubernetesClientRegistry;
+import com.aipaas.anycloud.service.util.KubernetesDiscoveryCache;
+import com.aipaas.anycloud.service.util.KubernetesInformerCache;
+import com.aipaas.anycloud.service.util.KubernetesRawClient;
+import com.aipaas.anycloud.service.util.KubernetesWatchHub;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListMeta;
+import io.fabric8.kubernetes.api.model.ListOptions;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.StatusDetails;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * <pre>
@@ -28,50 +83,379 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class KubeServiceImpl implements KubeService {
 
+	private static final String DELETE_MODE_COLLECTION = "COLLECTION";
+	private static final String DELETE_MODE_PARALLEL = "PARALLEL";
+	private static final String DELETE_DELETED = "DELETED";
+	private static final String DELETE_NOT_FOUND = "NOT_FOUND";
+	private static final String DELETE_FAILED = "FAILED";
+
+	private static final int LOG_BUFFER_SIZE = 8192;
+
 	private final ClusterService clusterService;
+	private final ClusterHealthProber clusterHealthProber;
+	private final KubernetesClientRegistry kubernetesClientRegistry;
+	private final KubernetesInformerCache kubernetesInformerCache;
+	private final KubernetesDiscoveryCache kubernetesDiscoveryCache;
+	private final KubernetesProperties kubernetesProperties;
+	private final KubernetesRawClient kubernetesRawClient;
+	private final KubernetesWatchHub kubernetesWatchHub;
+
+	// 멀티 클러스터 조회, 일괄 삭제 등 동시 작업용 실행기 (작업마다 가상 스레드 하나)
+	private final ExecutorService taskExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+	// 실시간(follow) 로그 스트림의 최대 유지 시간 타이머
+	private final ScheduledExecutorService followTimer = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().daemon().name("log-follow-timeout").factory());
 
-	public List<? extends HasMetadata> getResources(String clusterName, String namespace,
-			String kind) {
+	// 클러스터별 실시간(follow) 로그 조회 동시 개수 제한
+	private final Map<String, Semaphore> logFollowers = new ConcurrentHashMap<>();
+
+	public ResourceResultDto<List<? extends HasMetadata>> getResources(String clusterName, String kind,
+			ResourceListRequestDto request) {
 		// namespace가 빈값이면 "default"로 설정
+		String namespace = request.getNamespace();
 		if (namespace == null || namespace.trim().isEmpty()) {
 			namespace = "default";
 		}
+		if (request.getLimit() != null && request.getLimit() <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "limit",
+					String.valueOf(request.getLimit()), "limit은 1 이상이어야 합니다.");
+		}
 		log.info("Getting resources for cluster: {}, namespace: {}, kind: {}", clusterName, namespace, kind);
 
 		try {
 			ClusterEntity cluster = clusterService.getCluster(clusterName);
 			log.info("Found cluster: {}", cluster.getId());
 
-			KubernetesClientConfig manager = new KubernetesClientConfig(cluster);
-			KubernetesClient client = manager.getClient();
-			log.info("Created Kubernetes client successfully");
+			KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+			log.info("Acquired Kubernetes client successfully");
 
 			try {
-				ResourceType type = ResourceType.fromKind(kind);
-				log.info("Found resource type: {}", type);
+				Optional<ResourceType> resourceType = ResourceType.find(kind);
+				KubernetesResourceList<? extends HasMetadata> list;
+				if (resourceType.isPresent()) {
+					ResourceType type = resourceType.get();
+					log.info("Found resource type: {}", type);
 
-				List<? extends HasMetadata> resources = type.getResources(client, namespace);
+					// informer 캐시가 동기화되어 있으면 API 서버 조회 없이 캐시에서 반환 (페이지/셀렉터 조회는 API 서버로 전달)
+					if (!request.isPaged() && !request.hasSelector()) {
+						Optional<ResourceResultDto<List<? extends HasMetadata>>> cached =
+								kubernetesInformerCache.list(cluster, type, namespace);
+						if (cached.isPresent()) {
+							log.info("Served {} resources of type {} from informer cache",
+									cached.get().getData().size(), kind);
+							return cached.get();
+						}
+					}
+					list = type.getResources(client, namespace, request.toListOptions());
+				} else {
+					// enum에 없는 리소스(CRD 등)는 discovery 결과로 GenericKubernetesResource 조회
+					ResourceDefinitionContext context = resolveGeneric(cluster, kind);
+					log.info("Found API resource: {}/{} {}", context.getGroup(), context.getVersion(),
+							context.getPlural());
+					list = listGeneric(client, context, namespace, request.toListOptions());
+				}
+				List<? extends HasMetadata> resources = list.getItems();
 				log.info("Retrieved {} resources of type {}", resources.size(), kind);
 
-				return resources;
+				ListMeta metadata = list.getMetadata();
+				return ResourceResultDto.<List<? extends HasMetadata>>builder()
+						.data(resources)
+						.cached(false)
+						.resourceVersion(metadata != null ? metadata.getResourceVersion() : null)
+						.continueToken(metadata != null && metadata.getContinue() != null
+								&& !metadata.getContinue().isEmpty() ? metadata.getContinue() : null)
+						.remainingItemCount(metadata != null ? metadata.getRemainingItemCount() : null)
+						.build();
+			} catch (KubernetesClientException e) {
+				// 만료된 continue 토큰은 빈 목록 대신 오류로 알려 처음부터 다시 조회하도록 한다
+				if (e.getCode() == HttpURLConnection.HTTP_GONE && request.getContinueToken() != null) {
+					throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "continue",
+							request.getContinueToken(), "continue 토큰이 만료되었습니다. 처음부터 다시 조회해 주세요.");
+				}
+				// 잘못된 셀렉터는 API 서버가 400으로 거부하므로 그대로 입력 오류로 알린다
+				if (e.getCode() == HttpURLConnection.HTTP_BAD_REQUEST && request.hasSelector()) {
+					throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "selector",
+							"labelSelector=" + request.getLabelSelector() + ", fieldSelector="
+									+ request.getFieldSelector(), e.getStatus() != null
+									? e.getStatus().getMessage() : e.getMessage());
+				}
+				log.error("Failed to fetch resources for kind [{}] in namespace [{}]: {}", kind,
+						namespace, e.getMessage(), e);
+				return ResourceResultDto.live(Collections.emptyList());
 			} catch (Exception e) {
 				log.error("Failed to fetch resources for kind [{}] in namespace [{}]: {}", kind,
 						namespace, e.getMessage(), e);
-				return Collections.emptyList();
-			} finally {
-				manager.closeClient();
+				return ResourceResultDto.live(Collections.emptyList());
 			}
 		} catch (ClusterNotFoundException e) {
 			// 클러스터를 찾을 수 없는 경우 ClusterNotFoundException을 그대로 전파
 			log.warn("Cluster not found: {}", clusterName);
 			throw e;
+		} catch (CustomException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("Failed to initialize Kubernetes client for cluster [{}]: {}", clusterName, e.getMessage(), e);
-			return Collections.emptyList();
+			return ResourceResultDto.live(Collections.emptyList());
+		}
+	}
+
+	public ResourceStream streamResources(String clusterName, String kind, ResourceListRequestDto request) {
+		// namespace가 빈값이면 "default"로 설정
+		String namespace = request.getNamespace();
+		if (namespace == null || namespace.trim().isEmpty()) {
+			namespace = "default";
+		}
+		if (request.getLimit() != null && request.getLimit() <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "limit",
+					String.valueOf(request.getLimit()), "limit은 1 이상이어야 합니다.");
+		}
+		log.info("Streaming resources for cluster: {}, namespace: {}, kind: {}", clusterName, namespace, kind);
+
+		// 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 클러스터/리소스 종류 검증은 미리 수행
+		ClusterEntity cluster = clusterService.getCluster(clusterName);
+		ResourceType type;
+		try {
+			type = ResourceType.fromKind(kind);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_TYPE_VALUE, "resource_type", kind, e.getMessage());
+		}
+		KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+		String targetNamespace = namespace;
+
+		if (!request.isPaged() && !request.hasSelector()) {
+			Optional<ResourceResultDto<List<? extends HasMetadata>>> cached =
+					kubernetesInformerCache.list(cluster, type, targetNamespace);
+			if (cached.isPresent()) {
+				List<? extends HasMetadata> items = cached.get().getData();
+				return writer -> {
+					for (HasMetadata item : items) {
+						writer.write(item);
+					}
+				};
+			}
+		}
+
+		// limit은 스트리밍 시 페이지 크기로 사용하고, 모든 페이지를 이어서 전달한다
+		long pageSize = request.getLimit() != null
+				? request.getLimit() : kubernetesProperties.getStream().getPageSize();
+		return writer -> {
+			ListOptions options = request.toListOptions();
+			options.setLimit(pageSize);
+			long count = 0;
+			do {
+				KubernetesResourceList<? extends HasMetadata> page =
+						type.getResources(client, targetNamespace, options);
+				for (HasMetadata item : page.getItems()) {
+					writer.write(item);
+				}
+				count += page.getItems().size();
+
+				String next = page.getMetadata() != null ? page.getMetadata().getContinue() : null;
+				options.setContinue(next == null || next.isEmpty() ? null : next);
+			} while (options.getContinue() != null);
+			log.info("Streamed {} resources of type {}", count, kind);
+		};
+	}
+
+	public RawStream getResourceView(String clusterName, String kind, ResourceListRequestDto request,
+			ResourceView view) {
+		// namespace가 빈값이면 "default"로 설정
+		String namespace = request.getNamespace();
+		if (namespace == null || namespace.trim().isEmpty()) {
+			namespace = "default";
+		}
+		if (request.getLimit() != null && request.getLimit() <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "limit",
+					String.valueOf(request.getLimit()), "limit은 1 이상이어야 합니다.");
 		}
+		log.info("Getting {} view of resources for cluster: {}, namespace: {}, kind: {}", view.getValue(),
+				clusterName, namespace, kind);
+
+		ClusterEntity cluster = clusterService.getCluster(clusterName);
+		ResourceType type;
+		try {
+			type = ResourceType.fromKind(kind);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_TYPE_VALUE, "resource_type", kind, e.getMessage());
+		}
+		KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+
+		// API 서버가 PartialObjectMetadataList/Table로 변환한 응답을 역직렬화 없이 그대로 전달
+		Map<String, String> query = new LinkedHashMap<>();
+		query.put("limit", request.getLimit() != null ? String.valueOf(request.getLimit()) : null);
+		query.put("continue", request.getContinueToken());
+		query.put("labelSelector", request.getLabelSelector());
+		query.put("fieldSelector", request.getFieldSelector());
+		String path = KubernetesRawClient.resourcePath(type.getResourceClass(),
+				type.isNamespaced() ? namespace : null);
+
+		HttpResponse<InputStream> response = kubernetesRawClient.get(client, path, query, view.getAccept());
+		return new ResponseStream(response);
 	}
 
-	public HasMetadata getResource(String clusterName, String namespace, String kind, String name) {
+	public RawStream streamPodLogs(String clusterName, String namespace, String name, PodLogRequestDto request) {
+		// namespace가 빈값이면 "default"로 설정
+		if (namespace == null || namespace.trim().isEmpty()) {
+			namespace = "default";
+		}
+		if (request.getTailLines() != null && request.getTailLines() < 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "tailLines",
+					String.valueOf(request.getTailLines()), "tailLines는 0 이상이어야 합니다.");
+		}
+		if (request.getSinceSeconds() != null && request.getSinceSeconds() <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "sinceSeconds",
+					String.valueOf(request.getSinceSeconds()), "sinceSeconds는 1 이상이어야 합니다.");
+		}
+		log.info("Streaming logs of pod [{}] in cluster: {}, namespace: {}, follow: {}", name, clusterName,
+				namespace, request.isFollow());
+
+		ClusterEntity cluster = clusterService.getCluster(clusterName);
+		KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+
+		// follow 요청은 연결을 오래 점유하므로 클러스터별 동시 개수를 제한
+		Semaphore followers = null;
+		if (request.isFollow()) {
+			followers = logFollowers.computeIfAbsent(cluster.getId(),
+					id -> new Semaphore(kubernetesProperties.getLogs().getMaxFollowersPerCluster()));
+			if (!followers.tryAcquire()) {
+				throw new CustomException("클러스터의 실시간 로그 조회 수가 최대치에 도달했습니다.",
+						ErrorCode.TOO_MANY_REQUESTS);
+			}
+		}
+
+		Map<String, String> query = new LinkedHashMap<>();
+		query.put("container", request.getContainer());
+		query.put("tailLines", request.getTailLines() != null ? String.valueOf(request.getTailLines()) : null);
+		query.put("sinceSeconds",
+				request.getSinceSeconds() != null ? String.valueOf(request.getSinceSeconds()) : null);
+		query.put("follow", request.isFollow() ? "true" : null);
+		query.put("timestamps", request.isTimestamps() ? "true" : null);
+		String path = KubernetesRawClient.subresourcePath(Pod.class, namespace, name, "log");
+
+		HttpResponse<InputStream> response;
+		try {
+			response = kubernetesRawClient.get(client, path, query, MediaType.TEXT_PLAIN_VALUE);
+		} catch (RuntimeException e) {
+			if (followers != null) {
+				followers.release();
+			}
+			throw e;
+		}
+
+		if (followers == null) {
+			return new ResponseStream(response);
+		}
+		return new FollowLogStream(response, followers, followTimer, kubernetesProperties.getLogs().getFollowTimeout());
+	}
+
+	private static void closeQuietly(InputStream in) {
+		try {
+			in.close();
+		} catch (IOException e) {
+			log.debug("Failed to close response stream: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * API 서버 응답 본문을 그대로 전달하는 스트림입니다.
+	 * 본문이 실행되지 않고 요청이 끝나도 release()에서 응답을 닫아 연결을 반환합니다.
+	 */
+	private static final class ResponseStream implements RawStream {
+
+		private final HttpResponse<InputStream> response;
+
+		private ResponseStream(HttpResponse<InputStream> response) {
+			this.response = response;
+		}
+
+		@Override
+		public void writeTo(OutputStream out) throws IOException {
+			try (InputStream in = response.body()) {
+				in.transferTo(out);
+			}
+		}
+
+		@Override
+		public void release() {
+			closeQuietly(response.body());
+		}
+	}
+
+	/**
+	 * 실시간(follow) 로그 스트림입니다.
+	 * 본문 전송이 끝나거나, 요청이 완료/시간 초과되거나, 최대 follow 시간이 지나면 API 서버 응답을 닫고 동시 개수 제한을 한 번만 반환합니다.
+	 */
+	private static final class FollowLogStream implements RawStream {
+
+		private final HttpResponse<InputStream> response;
+		private final Semaphore permit;
+		private final AtomicBoolean released = new AtomicBoolean();
+		private final AtomicBoolean expired = new AtomicBoolean();
+		private final ScheduledFuture<?> timeout;
+
+		private FollowLogStream(HttpResponse<InputStream> response, Semaphore permit, ScheduledExecutorService timer,
+				long followTimeout) {
+			this.response = response;
+			this.permit = permit;
+			// 로그가 더 이상 나오지 않는 파드나 본문이 실행되지 않은 요청도 최대 follow 시간이 지나면 정리
+			this.timeout = timer.schedule(() -> {
+				expired.set(true);
+				release();
+			}, followTimeout, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void writeTo(OutputStream out) throws IOException {
+			try {
+				InputStream in = response.body();
+				byte[] buffer = new byte[LOG_BUFFER_SIZE];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					out.write(buffer, 0, read);
+					out.flush();
+				}
+			} catch (IOException e) {
+				if (!expired.get()) {
+					throw e;
+				}
+			} finally {
+				release();
+			}
+		}
+
+		@Override
+		public void release() {
+			if (!released.compareAndSet(false, true)) {
+				return;
+			}
+			if (timeout != null) {
+				timeout.cancel(false);
+			}
+			closeQuietly(response.body());
+			permit.release();
+		}
+	}
+
+	public SseEmitter watchResources(String clusterName, String namespace, String kind) {
+		// namespace가 빈값이면 "default"로 설정
+		if (namespace == null || namespace.trim().isEmpty()) {
+			namespace = "default";
+		}
+		log.info("Watching resources for cluster: {}, namespace: {}, kind: {}", clusterName, namespace, kind);
+
+		ClusterEntity cluster = clusterService.getCluster(clusterName);
+		ResourceType type;
+		try {
+			type = ResourceType.fromKind(kind);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_TYPE_VALUE, "resource_type", kind, e.getMessage());
+		}
+		return kubernetesWatchHub.subscribe(cluster, type, namespace);
+	}
+
+	public ResourceResultDto<HasMetadata> getResource(String clusterName, String namespace, String kind,
+			String name) {
 		// namespace가 빈값이면 "default"로 설정
 		if (namespace == null || namespace.trim().isEmpty()) {
 			namespace = "default";
@@ -79,18 +463,31 @@ public class KubeServiceImpl implements KubeService {
 
 		try {
 			ClusterEntity cluster = clusterService.getCluster(clusterName);
-			KubernetesClientConfig manager = new KubernetesClientConfig(cluster);
-			KubernetesClient client = manager.getClient();
+			KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
 
 			try {
-				ResourceType type = ResourceType.fromKind(kind);
-				return type.getResourceByName(client, namespace, name);
+				Optional<ResourceType> resourceType = ResourceType.find(kind);
+				ResourceResultDto<HasMetadata> result;
+				if (resourceType.isPresent()) {
+					ResourceType type = resourceType.get();
+					Optional<ResourceResultDto<HasMetadata>> cached =
+							kubernetesInformerCache.get(cluster, type, namespace, name);
+					result = cached.isPresent()
+							? cached.get() : ResourceResultDto.live(type.getResourceByName(client, namespace, name));
+				} else {
+					result = ResourceResultDto.live(
+							genericResource(client, resolveGeneric(cluster, kind), namespace, name).get());
+				}
+
+				// 단건 조회는 목록 기준이 아닌 객체 자신의 resourceVersion을 사용
+				HasMetadata resource = result.getData();
+				result.setResourceVersion(resource != null && resource.getMetadata() != null
+						? resource.getMetadata().getResourceVersion() : null);
+				return result;
 			} catch (Exception e) {
 				log.error("Failed to fetch resource [{}] of kind [{}] in namespace [{}]: {}", name,
 						kind, namespace, e.getMessage(), e);
-				return null;
-			} finally {
-				manager.closeClient();
+				return ResourceResultDto.live(null);
 			}
 		} catch (ClusterNotFoundException e) {
 			// 클러스터를 찾을 수 없는 경우 ClusterNotFoundException을 그대로 전파
@@ -99,6 +496,251 @@ public class KubeServiceImpl implements KubeService {
 		}
 	}
 
+	public FleetResourceDto getFleetResources(String kind, List<String> clusterNames,
+			ResourceListRequestDto request) {
+		if (request.getLimit() != null && request.getLimit() <= 0) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "limit",
+					String.valueOf(request.getLimit()), "limit은 1 이상이어야 합니다.");
+		}
+		ResourceType type;
+		try {
+			type = ResourceType.fromKind(kind);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_TYPE_VALUE, "resource_type", kind, e.getMessage());
+		}
+		// 여러 클러스터를 대상으로 하므로 namespace가 빈값이면 전체 네임스페이스를 조회
+		String namespace = request.getNamespace() == null || request.getNamespace().isBlank()
+				? null : request.getNamespace();
+		long started = System.currentTimeMillis();
+
+		List<FleetResourceDto.ClusterResult> results = new ArrayList<>();
+		List<ClusterEntity> clusters = new ArrayList<>();
+		// 접속 정보는 캐시된 엔티티에서 가져오므로 전체 조회 시에도 목록 컬럼만 조회
+		List<String> targets = clusterNames == null || clusterNames.isEmpty()
+				? clusterService.getClusters().stream().map(ClusterSummaryDto::getId).toList()
+				: clusterNames;
+		for (String clusterName : targets) {
+			try {
+				clusters.add(clusterService.getCluster(clusterName));
+			} catch (ClusterNotFoundException e) {
+				results.add(FleetResourceDto.ClusterResult.builder()
+						.clusterName(clusterName)
+						.status(ResultStatus.NOT_FOUND)
+						.message(e.getMessage())
+						.items(Collections.emptyList())
+						.build());
+			}
+		}
+		log.info("Fetching {} across {} clusters", kind, clusters.size());
+
+		// 클러스터마다 가상 스레드에서 동시에 조회하고, 제한 시간 안에 끝나지 않은 클러스터는 TIMEOUT으로 표시
+		List<Callable<FleetResourceDto.ClusterResult>> tasks = new ArrayList<>();
+		for (ClusterEntity cluster : clusters) {
+			tasks.add(() -> fetchClusterResources(cluster, type, namespace, request));
+		}
+		List<Future<FleetResourceDto.ClusterResult>> futures;
+		try {
+			futures = taskExecutor.invokeAll(tasks, kubernetesProperties.getFleet().getTimeout(),
+					TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+
+		for (int i = 0; i < futures.size(); i++) {
+			Future<FleetResourceDto.ClusterResult> future = futures.get(i);
+			String clusterName = clusters.get(i).getId();
+			if (future.isCancelled()) {
+				log.warn("Timed out fetching {} from cluster [{}]", kind, clusterName);
+				results.add(FleetResourceDto.ClusterResult.builder()
+						.clusterName(clusterName)
+						.status(ResultStatus.TIMEOUT)
+						.message("클러스터 응답 시간이 초과되었습니다.")
+						.elapsedMillis(kubernetesProperties.getFleet().getTimeout())
+						.items(Collections.emptyList())
+						.build());
+				continue;
+			}
+			try {
+				results.add(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+			} catch (ExecutionException e) {
+				results.add(FleetResourceDto.ClusterResult.builder()
+						.clusterName(clusterName)
+						.status(ResultStatus.FAILED)
+						.message(e.getCause().getMessage())
+						.items(Collections.emptyList())
+						.build());
+			}
+		}
+
+		int failed = (int) results.stream().filter(r -> r.getStatus() != ResultStatus.SUCCESS).count();
+		return FleetResourceDto.builder()
+				.kind(type.getKind())
+				.totalClusters(results.size())
+				.failedClusters(failed)
+				.elapsedMillis(System.currentTimeMillis() - started)
+				.clusters(results)
+				.build();
+	}
+
+	private FleetResourceDto.ClusterResult fetchClusterResources(ClusterEntity cluster, ResourceType type,
+			String namespace, ResourceListRequestDto request) {
+		long started = System.currentTimeMillis();
+		try {
+			if (!request.isPaged() && !request.hasSelector()) {
+				Optional<ResourceResultDto<List<? extends HasMetadata>>> cached =
+						kubernetesInformerCache.list(cluster, type, namespace);
+				if (cached.isPresent()) {
+					return FleetResourceDto.ClusterResult.builder()
+							.clusterName(cluster.getId())
+							.status(ResultStatus.SUCCESS)
+							.cached(true)
+							.elapsedMillis(System.currentTimeMillis() - started)
+							.items(cached.get().getData())
+							.build();
+				}
+			}
+			KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+			List<? extends HasMetadata> items =
+					type.getResources(client, namespace, request.toListOptions()).getItems();
+			return FleetResourceDto.ClusterResult.builder()
+					.clusterName(cluster.getId())
+					.status(ResultStatus.SUCCESS)
+					.elapsedMillis(System.currentTimeMillis() - started)
+					.items(items)
+					.build();
+		} catch (Exception e) {
+			log.error("Failed to fetch {} from cluster [{}]: {}", type.getKind(), cluster.getId(),
+					e.getMessage());
+			return FleetResourceDto.ClusterResult.builder()
+					.clusterName(cluster.getId())
+					.status(ResultStatus.FAILED)
+					.message(e.getMessage())
+					.elapsedMillis(System.currentTimeMillis() - started)
+					.items(Collections.emptyList())
+					.build();
+		}
+	}
+
+	public BatchResourceDto getBatchResources(String clusterName, String namespace, List<String> kinds) {
+		if (kinds == null || kinds.isEmpty()) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "kinds", null, "kinds는 하나 이상 지정해야 합니다.");
+		}
+		// namespace가 빈값이면 "default"로 설정
+		if (namespace == null || namespace.trim().isEmpty()) {
+			namespace = "default";
+		}
+		// 같은 종류를 여러 번 요청해도 한 번만 조회
+		Map<String, ResourceType> types = new LinkedHashMap<>();
+		for (String kind : kinds) {
+			try {
+				ResourceType type = ResourceType.fromKind(kind.trim());
+				types.putIfAbsent(type.getKind(), type);
+			} catch (IllegalArgumentException e) {
+				throw new CustomException(ErrorCode.INVALID_TYPE_VALUE, "kinds", kind, e.getMessage());
+			}
+		}
+
+		ClusterEntity cluster = clusterService.getCluster(clusterName);
+		KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+		String targetNamespace = namespace;
+		log.info("Fetching {} in cluster: {}, namespace: {}", types.keySet(), clusterName, namespace);
+		long started = System.currentTimeMillis();
+
+		// 하나의 클라이언트로 종류마다 가상 스레드에서 동시에 조회
+		List<ResourceType> targets = new ArrayList<>(types.values());
+		List<Callable<BatchResourceDto.KindResult>> tasks = new ArrayList<>();
+		for (ResourceType type : targets) {
+			tasks.add(() -> fetchKindResources(cluster, client, type, targetNamespace));
+		}
+		List<Future<BatchResourceDto.KindResult>> futures;
+		try {
+			futures = taskExecutor.invokeAll(tasks, kubernetesProperties.getBatch().getTimeout(),
+					TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+
+		Map<String, BatchResourceDto.KindResult> results = new LinkedHashMap<>();
+		for (int i = 0; i < futures.size(); i++) {
+			Future<BatchResourceDto.KindResult> future = futures.get(i);
+			String kind = targets.get(i).getKind();
+			if (future.isCancelled()) {
+				log.warn("Timed out fetching {} from cluster [{}]", kind, clusterName);
+				results.put(kind, BatchResourceDto.KindResult.builder()
+						.status(ResultStatus.TIMEOUT)
+						.message("클러스터 응답 시간이 초과되었습니다.")
+						.elapsedMillis(kubernetesProperties.getBatch().getTimeout())
+						.items(Collections.emptyList())
+						.build());
+				continue;
+			}
+			try {
+				results.put(kind, future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+			} catch (ExecutionException e) {
+				results.put(kind, BatchResourceDto.KindResult.builder()
+						.status(ResultStatus.FAILED)
+						.message(e.getCause().getMessage())
+						.items(Collections.emptyList())
+						.build());
+			}
+		}
+
+		int failed = (int) results.values().stream().filter(r -> r.getStatus() != ResultStatus.SUCCESS).count();
+		return BatchResourceDto.builder()
+				.clusterName(cluster.getId())
+				.namespace(namespace)
+				.failedKinds(failed)
+				.elapsedMillis(System.currentTimeMillis() - started)
+				.resources(results)
+				.build();
+	}
+
+	private BatchResourceDto.KindResult fetchKindResources(ClusterEntity cluster, KubernetesClient client,
+			ResourceType type, String namespace) {
+		long started = System.currentTimeMillis();
+		try {
+			Optional<ResourceResultDto<List<? extends HasMetadata>>> cached =
+					kubernetesInformerCache.list(cluster, type, namespace);
+			if (cached.isPresent()) {
+				return BatchResourceDto.KindResult.builder()
+						.status(ResultStatus.SUCCESS)
+						.cached(true)
+						.elapsedMillis(System.currentTimeMillis() - started)
+						.items(cached.get().getData())
+						.build();
+			}
+			List<? extends HasMetadata> items = type.getResources(client, namespace, new ListOptions()).getItems();
+			return BatchResourceDto.KindResult.builder()
+					.status(ResultStatus.SUCCESS)
+					.elapsedMillis(System.currentTimeMillis() - started)
+					.items(items)
+					.build();
+		} catch (Exception e) {
+			log.error("Failed to fetch {} from cluster [{}]: {}", type.getKind(), cluster.getId(),
+					e.getMessage());
+			return BatchResourceDto.KindResult.builder()
+					.status(ResultStatus.FAILED)
+					.message(e.getMessage())
+					.elapsedMillis(System.currentTimeMillis() - started)
+					.items(Collections.emptyList())
+					.build();
+		}
+	}
+
+	@PreDestroy
+	public void shutdownTaskExecutor() {
+		taskExecutor.shutdownNow();
+		followTimer.shutdownNow();
+	}
+
 	public boolean deleteResource(String clusterName, String namespace, String kind, String name) {
 		// namespace가 빈값이면 "default"로 설정
 		if (namespace == null || namespace.trim().isEmpty()) {
@@ -107,19 +749,19 @@ public class KubeServiceImpl implements KubeService {
 
 		try {
 			ClusterEntity cluster = clusterService.getCluster(clusterName);
-			KubernetesClientConfig manager = new KubernetesClientConfig(cluster);
-			KubernetesClient client = manager.getClient();
+			KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
 
 			try {
-				ResourceType type = ResourceType.fromKind(kind);
-				return type.deleteResource(client, namespace, name);
+				Optional<ResourceType> resourceType = ResourceType.find(kind);
+				if (resourceType.isPresent()) {
+					return resourceType.get().deleteResource(client, namespace, name);
+				}
+				return !genericResource(client, resolveGeneric(cluster, kind), namespace, name).delete().isEmpty();
 			} catch (Exception e) {
 				log.error("Failed to delete [{}] resource [{}] in namespace [{}]: {}", kind, name,
 						namespace,
 						e.getMessage(), e);
 				return false;
-			} finally {
-				manager.closeClient();
 			}
 		} catch (ClusterNotFoundException e) {
 			// 클러스터를 찾을 수 없는 경우 ClusterNotFoundException을 그대로 전파
@@ -128,6 +770,164 @@ public class KubeServiceImpl implements KubeService {
 		}
 	}
 
+	/**
+	 * enum에 없는 리소스 이름을 클러스터 discovery 결과에서 찾습니다.
+	 */
+	private ResourceDefinitionContext resolveGeneric(ClusterEntity cluster, String kind) {
+		return kubernetesDiscoveryCache.resolve(cluster, kind)
+				.orElseThrow(() -> new IllegalArgumentException("Unknown kind: " + kind));
+	}
+
+	private GenericKubernetesResourceList listGeneric(KubernetesClient client, ResourceDefinitionContext context,
+			String namespace, ListOptions options) {
+		MixedOperation<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>>
+				operation = client.genericKubernetesResources(context);
+		if (!context.isNamespaceScoped()) {
+			return operation.list(options);
+		}
+		if (namespace == null) {
+			return operation.inAnyNamespace().list(options);
+		}
+		return operation.inNamespace(namespace).list(options);
+	}
+
+	private Resource<GenericKubernetesResource> genericResource(KubernetesClient client,
+			ResourceDefinitionContext context, String namespace, String name) {
+		MixedOperation<GenericKubernetesResource, GenericKubernetesResourceList, Resource<GenericKubernetesResource>>
+				operation = client.genericKubernetesResources(context);
+		return context.isNamespaceScoped()
+				? operation.inNamespace(namespace).withName(name) : operation.withName(name);
+	}
+
+	public BulkDeleteResultDto bulkDeleteResources(String clusterName, String namespace, String kind,
+			BulkDeleteRequestDto request) {
+		// namespace가 빈값이면 "default"로 설정
+		if (namespace == null || namespace.trim().isEmpty()) {
+			namespace = "default";
+		}
+		boolean hasNames = request.getNames() != null && !request.getNames().isEmpty();
+		boolean hasSelector = request.getLabelSelector() != null && !request.getLabelSelector().isBlank();
+		if (hasNames == hasSelector) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "names", null,
+					"names 또는 labelSelector 중 하나만 지정해야 합니다.");
+		}
+		DeletionPropagation propagationPolicy = toPropagationPolicy(request.getPropagationPolicy());
+
+		ClusterEntity cluster = clusterService.getCluster(clusterName);
+		ResourceType type;
+		try {
+			type = ResourceType.fromKind(kind);
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.INVALID_TYPE_VALUE, "resource_type", kind, e.getMessage());
+		}
+		KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+		String targetNamespace = namespace;
+		log.info("Bulk deleting {} in cluster: {}, namespace: {}", kind, clusterName, namespace);
+
+		try {
+			// 라벨 셀렉터 삭제는 deletecollection 한 번으로 처리
+			if (hasSelector && type.supportsDeleteCollection()) {
+				List<BulkDeleteResultDto.Item> items = new ArrayList<>();
+				for (StatusDetails details : type.deleteCollection(client, targetNamespace,
+						request.getLabelSelector(), propagationPolicy)) {
+					items.add(BulkDeleteResultDto.Item.builder()
+							.name(details.getName())
+							.status(DELETE_DELETED)
+							.build());
+				}
+				return bulkDeleteResult(type, DELETE_MODE_COLLECTION, items);
+			}
+
+			List<String> names;
+			if (hasNames) {
+				names = request.getNames().stream().distinct().toList();
+			} else {
+				ListOptions options = new ListOptionsBuilder().withLabelSelector(request.getLabelSelector()).build();
+				names = type.getResources(client, targetNamespace, options).getItems().stream()
+						.map(resource -> resource.getMetadata().getName())
+						.toList();
+			}
+
+			// 항목별 삭제는 가상 스레드에서 병렬로 수행하되 동시에 보내는 요청 수를 제한
+			Semaphore permits = new Semaphore(kubernetesProperties.getBulkDelete().getParallelism());
+			List<Future<BulkDeleteResultDto.Item>> futures = new ArrayList<>();
+			for (String name : names) {
+				futures.add(taskExecutor.submit(() -> {
+					permits.acquire();
+					try {
+						return deleteItem(client, type, targetNamespace, name, propagationPolicy);
+					} finally {
+						permits.release();
+					}
+				}));
+			}
+
+			List<BulkDeleteResultDto.Item> items = new ArrayList<>();
+			for (int i = 0; i < futures.size(); i++) {
+				try {
+					items.add(futures.get(i).get());
+				} catch (ExecutionException e) {
+					items.add(BulkDeleteResultDto.Item.builder()
+							.name(names.get(i))
+							.status(DELETE_FAILED)
+							.message(e.getCause().getMessage())
+							.build());
+				}
+			}
+			return bulkDeleteResult(type, DELETE_MODE_PARALLEL, items);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+		} catch (KubernetesClientException e) {
+			log.error("Failed to bulk delete [{}] in namespace [{}]: {}", kind, namespace, e.getMessage(), e);
+			throw new CustomException(e.getMessage(), ErrorCode.CLUSTER_CONNECTION_FAILED);
+		}
+	}
+
+	private BulkDeleteResultDto.Item deleteItem(KubernetesClient client, ResourceType type, String namespace,
+			String name, DeletionPropagation propagationPolicy) {
+		try {
+			boolean deleted = !type.deleteResource(client, namespace, name, propagationPolicy).isEmpty();
+			return BulkDeleteResultDto.Item.builder()
+					.name(name)
+					.status(deleted ? DELETE_DELETED : DELETE_NOT_FOUND)
+					.build();
+		} catch (Exception e) {
+			log.warn("Failed to delete [{}] resource [{}] in namespace [{}]: {}", type.getKind(), name,
+					namespace, e.getMessage());
+			return BulkDeleteResultDto.Item.builder()
+					.name(name)
+					.status(DELETE_FAILED)
+					.message(e.getMessage())
+					.build();
+		}
+	}
+
+	private BulkDeleteResultDto bulkDeleteResult(ResourceType type, String mode,
+			List<BulkDeleteResultDto.Item> items) {
+		int deleted = (int) items.stream().filter(item -> DELETE_DELETED.equals(item.getStatus())).count();
+		return BulkDeleteResultDto.builder()
+				.kind(type.getKind())
+				.mode(mode)
+				.deleted(deleted)
+				.failed(items.size() - deleted)
+				.items(items)
+				.build();
+	}
+
+	private DeletionPropagation toPropagationPolicy(String value) {
+		if (value == null || value.isBlank()) {
+			return DeletionPropagation.BACKGROUND;
+		}
+		for (DeletionPropagation policy : DeletionPropagation.values()) {
+			if (policy.name().equalsIgnoreCase(value)) {
+				return policy;
+			}
+		}
+		throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "propagationPolicy", value,
+				"propagationPolicy는 Foreground, Background, Orphan 중 하나여야 합니다.");
+	}
+
 	public boolean testConnection(String clusterName) {
 		log.info("Testing connection to cluster: {}", clusterName);
 
@@ -136,26 +936,14 @@ public class KubeServiceImpl implements KubeService {
 			ClusterEntity cluster = clusterService.getCluster(clusterName);
 			log.info("Found cluster: {}", cluster.getId());
 
-			KubernetesClientConfig manager = new KubernetesClientConfig(cluster);
-			KubernetesClient client = manager.getClient();
-			log.info("Created Kubernetes client successfully");
-
-			try {
-				// 실제 API 호출로 연결 테스트 - 네임스페이스 목록 조회
-				var namespaces = client.namespaces().list();
-				log.info("Successfully connected to cluster. Found {} namespaces", namespaces.getItems().size());
-
-				// 추가로 노드 정보도 조회해서 더 확실한 연결 테스트
-				var nodes = client.nodes().list();
-				log.info("Successfully retrieved {} nodes from cluster", nodes.getItems().size());
-
+			// 목록 조회 대신 /readyz, /version 점검 결과를 사용 (짧은 시간 동안 캐시, 동시 요청은 점검 1회 공유)
+			ClusterProbeDto probe = clusterHealthProber.getStatus(cluster);
+			if (ClusterHealthProber.STATUS_ACTIVE.equals(probe.getStatus())) {
+				log.info("Successfully connected to cluster [{}] ({} ms)", clusterName, probe.getLatencyMillis());
 				return true;
-			} catch (Exception e) {
-				log.error("Failed to connect to cluster [{}]: {}", clusterName, e.getMessage(), e);
-				return false;
-			} finally {
-				manager.closeClient();
 			}
+			log.error("Failed to connect to cluster [{}]: {}", clusterName, probe.getMessage());
+			return false;
 		} catch (ClusterNotFoundException e) {
 			// 클러스터를 찾을 수 없는 경우 ClusterNotFoundException을 그대로 전파
 			log.warn("Cluster not found: {}", clusterName);
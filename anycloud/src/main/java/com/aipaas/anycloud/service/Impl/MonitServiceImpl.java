@@ -3,9 +3,9 @@ package com.aipaas.anycloud.service.Impl;
 import com.aipaas.anycloud.error.exception.EntityNotFoundException;
 import com.aipaas.anycloud.model.entity.ClusterEntity;
 import com.aipaas.anycloud.model.entity.MonitEntity;
-import com.aipaas.anycloud.repository.ClusterRepository;
 import com.aipaas.anycloud.service.MonitService;
 import com.aipaas.anycloud.service.PrometheusQueryService;
+import com.aipaas.anycloud.service.util.ClusterEntityCache;
 import com.aipaas.anycloud.util.FormatConverter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,12 +30,12 @@ import java.util.stream.Collectors;
 public class MonitServiceImpl implements MonitService {
 
 	private final ObjectMapper objectMapper;
-	private final ClusterRepository clusterRepository;
+	private final ClusterEntityCache clusterEntityCache;
 	private final WebClient webClient;
 	private final PrometheusQueryService prometheusQueryService;
 
 	private String getMonitUrl(String clusterName) {
-		ClusterEntity cluster = clusterRepository.findById(clusterName).orElseThrow(
+		ClusterEntity cluster = clusterEntityCache.get(clusterName).orElseThrow(
 				() -> new EntityNotFoundException("Cluster with Name " + clusterName + " Not Found."));
 		String monitUrl = cluster.getMonitServerUrl();
 		if (monitUrl == null || monitUrl.isEmpty()) {
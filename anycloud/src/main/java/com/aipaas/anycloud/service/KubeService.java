@@ -1,8 +1,19 @@
 package com.aipaas.anycloud.service;
 
+import com.aipaas.anycloud.model.dto.request.BulkDeleteRequestDto;
+import com.aipaas.anycloud.model.dto.request.PodLogRequestDto;
+import com.aipaas.anycloud.model.dto.request.ResourceListRequestDto;
+import com.aipaas.anycloud.model.dto.response.BatchResourceDto;
+import com.aipaas.anycloud.model.dto.response.BulkDeleteResultDto;
+import com.aipaas.anycloud.model.dto.response.FleetResourceDto;
+import com.aipaas.anycloud.model.dto.response.ResourceResultDto;
+import com.aipaas.anycloud.model.enums.ResourceView;
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * <pre>
@@ -15,11 +26,64 @@ import org.springframework.stereotype.Component;
 @Component
 public interface KubeService {
 
-	List<? extends HasMetadata> getResources(String clusterName, String namespace, String kind);
+	ResourceResultDto<List<? extends HasMetadata>> getResources(String clusterName, String kind,
+		ResourceListRequestDto request);
 
-	HasMetadata getResource(String clusterName, String namespace, String kind, String name);
+	ResourceStream streamResources(String clusterName, String kind, ResourceListRequestDto request);
+
+	RawStream getResourceView(String clusterName, String kind, ResourceListRequestDto request,
+		ResourceView view);
+
+	FleetResourceDto getFleetResources(String kind, List<String> clusterNames, ResourceListRequestDto request);
+
+	BatchResourceDto getBatchResources(String clusterName, String namespace, List<String> kinds);
+
+	RawStream streamPodLogs(String clusterName, String namespace, String name, PodLogRequestDto request);
+
+	SseEmitter watchResources(String clusterName, String namespace, String kind);
+
+	ResourceResultDto<HasMetadata> getResource(String clusterName, String namespace, String kind, String name);
 
 	boolean deleteResource(String clusterName, String namespace, String kind, String name);
+
+	BulkDeleteResultDto bulkDeleteResources(String clusterName, String namespace, String kind,
+		BulkDeleteRequestDto request);
 	
 	boolean testConnection(String clusterName);
+
+	/**
+	 * 리소스 목록을 한 페이지씩 조회하면서 항목 단위로 전달하기 위한 함수형 인터페이스
+	 */
+	@FunctionalInterface
+	interface ResourceStream {
+		void writeTo(ResourceWriter writer) throws IOException;
+	}
+
+	/**
+	 * 스트리밍 조회된 리소스 항목을 기록하기 위한 함수형 인터페이스
+	 */
+	@FunctionalInterface
+	interface ResourceWriter {
+		void write(HasMetadata resource) throws IOException;
+	}
+
+	/**
+	 * API 서버 응답 본문을 가공하지 않고 그대로 전달하기 위한 함수형 인터페이스
+	 */
+	@FunctionalInterface
+	interface RawStream {
+
+		/**
+		 * 비동기 요청이 끝났을 때 release()를 호출할 수 있도록 스트림을 보관하는 요청 attribute 이름
+		 */
+		String REQUEST_ATTRIBUTE = RawStream.class.getName();
+
+		void writeTo(OutputStream out) throws IOException;
+
+		/**
+		 * 스트림에 묶인 자원을 반환합니다. 본문이 실행되지 않고 요청이 끝난 경우에도 호출되며, 여러 번 호출해도 안전해야 합니다.
+		 */
+		default void release() {
+		}
+	}
 }
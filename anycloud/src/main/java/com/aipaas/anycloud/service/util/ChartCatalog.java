@@ -0,0 +1,278 @@
+package com.aipaas.anycloud.service.util;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * ClassName : ChartCatalog
+ * Type : class
+ * Description : Helm 저장소 index.yaml을 조회용으로 압축한 차트 카탈로그입니다.
+ *  - 차트별 버전을 semver 내림차순 배열로 보관하여 최신 버전은 O(1), 특정 버전은 O(log n)으로 조회
+ *  - 버전마다 반복되는 설명, 아이콘, 키워드 등은 같은 인스턴스를 공유 (ChartParser의 string pool)
+ *  - digest, urls, annotations 등 조회에 쓰지 않는 필드는 보관하지 않음
+ *  - 생성 후 변경되지 않으므로 여러 요청이 동시에 사용해도 안전
+ * Related : ChartParser, HelmIndexCache
+ * </pre>
+ */
+public final class ChartCatalog {
+
+    /**
+     * semver 내림차순 (최신 버전이 먼저). semver가 아닌 버전은 semver 버전 뒤에 문자열 역순으로 정렬합니다.
+     */
+    static final Comparator<String> VERSION_ORDER = (a, b) -> SemVer.compare(b, a);
+
+    // 차트 이름별 차트 (index.yaml 순서 유지)
+    private final Map<String, Chart> charts;
+    private final int versionCount;
+
+    ChartCatalog(Map<String, Chart> charts) {
+        this.charts = Collections.unmodifiableMap(charts);
+        this.versionCount = charts.values().stream().mapToInt(chart -> chart.versions.length).sum();
+    }
+
+    /**
+     * 전체 차트를 index.yaml 순서로 반환합니다.
+     */
+    public Collection<Chart> charts() {
+        return charts.values();
+    }
+
+    /**
+     * 차트를 이름으로 찾습니다.
+     *
+     * @param name 차트 이름
+     * @return 차트 (없으면 null)
+     */
+    public Chart chart(String name) {
+        return charts.get(name);
+    }
+
+    public int size() {
+        return charts.size();
+    }
+
+    public int versionCount() {
+        return versionCount;
+    }
+
+    /**
+     * 차트 하나와 그 버전들입니다.
+     */
+    @Getter
+    public static final class Chart {
+
+        private final String name;
+
+        // semver 내림차순
+        private final Version[] versions;
+
+        Chart(String name, List<Version> versions) {
+            this.name = name;
+            this.versions = versions.toArray(Version[]::new);
+            Arrays.sort(this.versions, (a, b) -> VERSION_ORDER.compare(a.version, b.version));
+        }
+
+        public List<Version> getVersions() {
+            return Collections.unmodifiableList(Arrays.asList(versions));
+        }
+
+        public Version latest() {
+            return versions[0];
+        }
+
+        /**
+         * 버전 문자열이 정확히 일치하는 버전을 이진 탐색으로 찾습니다.
+         *
+         * @param version 버전 (예: 1.2.3)
+         * @return 버전 정보 (없으면 null)
+         */
+        public Version find(String version) {
+            int low = 0;
+            int high = versions.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = VERSION_ORDER.compare(versions[mid].version, version);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return exact(mid, version);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 순서가 같은 버전(예: 1.0과 1.0.0, 빌드 메타데이터만 다른 버전) 중 문자열이 같은 버전을 찾습니다.
+         */
+        private Version exact(int index, String version) {
+            for (int i = index; i >= 0 && VERSION_ORDER.compare(versions[i].version, version) == 0; i--) {
+                if (version.equals(versions[i].version)) {
+                    return versions[i];
+                }
+            }
+            for (int i = index + 1; i < versions.length && VERSION_ORDER.compare(versions[i].version, version) == 0; i++) {
+                if (version.equals(versions[i].version)) {
+                    return versions[i];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 차트 버전 하나의 조회용 필드입니다.
+     */
+    @Getter
+    public static final class Version {
+
+        private final String version;
+        private final String appVersion;
+        private final String description;
+        private final String created;
+        private final String icon;
+        private final String home;
+
+        // sources의 첫 번째 값
+        private final String source;
+
+        private final String[] keywords;
+
+        // 담당자별 [필드, 값, 필드, 값, ...]
+        private final String[][] maintainers;
+
+        // [name, version, repository] 반복
+        private final String[] dependencies;
+
+        Version(String version, String appVersion, String description, String created, String icon, String home,
+                String source, String[] keywords, String[][] maintainers, String[] dependencies) {
+            this.version = version;
+            this.appVersion = appVersion;
+            this.description = description;
+            this.created = created;
+            this.icon = icon;
+            this.home = home;
+            this.source = source;
+            this.keywords = keywords;
+            this.maintainers = maintainers;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * 버전 문자열의 semver 순서 비교입니다. (선택적 v 접두사, 누락된 minor/patch는 0으로 간주)
+     */
+    private static final class SemVer {
+
+        private static int compare(String a, String b) {
+            long[] coreA = core(a);
+            long[] coreB = core(b);
+            if (coreA == null || coreB == null) {
+                if (coreA != null) {
+                    return 1;
+                }
+                if (coreB != null) {
+                    return -1;
+                }
+                return nullToEmpty(a).compareTo(nullToEmpty(b));
+            }
+            for (int i = 0; i < 3; i++) {
+                int cmp = Long.compare(coreA[i], coreB[i]);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return comparePrerelease(prerelease(a), prerelease(b));
+        }
+
+        /**
+         * major.minor.patch 숫자를 반환합니다. semver 형식이 아니면 null입니다.
+         */
+        private static long[] core(String version) {
+            if (version == null || version.isEmpty()) {
+                return null;
+            }
+            String value = stripBuild(version);
+            if (value.isEmpty()) {
+                return null;
+            }
+            int start = value.charAt(0) == 'v' || value.charAt(0) == 'V' ? 1 : 0;
+            int dash = value.indexOf('-', start);
+            String core = dash < 0 ? value.substring(start) : value.substring(start, dash);
+            String[] parts = core.split("\\.", -1);
+            if (parts.length == 0 || parts.length > 3) {
+                return null;
+            }
+            long[] numbers = new long[3];
+            for (int i = 0; i < parts.length; i++) {
+                if (parts[i].isEmpty() || parts[i].length() > 18 || !isNumeric(parts[i])) {
+                    return null;
+                }
+                numbers[i] = Long.parseLong(parts[i]);
+            }
+            return numbers;
+        }
+
+        private static String prerelease(String version) {
+            String value = stripBuild(version);
+            int dash = value.indexOf('-');
+            return dash < 0 ? null : value.substring(dash + 1);
+        }
+
+        /**
+         * prerelease가 없는 버전이 더 높고, 있으면 점으로 구분된 식별자를 차례로 비교합니다.
+         */
+        private static int comparePrerelease(String a, String b) {
+            if (a == null || b == null) {
+                return a == null ? (b == null ? 0 : 1) : -1;
+            }
+            String[] partsA = a.split("\\.");
+            String[] partsB = b.split("\\.");
+            for (int i = 0; i < Math.min(partsA.length, partsB.length); i++) {
+                boolean numericA = isNumeric(partsA[i]) && partsA[i].length() <= 18;
+                boolean numericB = isNumeric(partsB[i]) && partsB[i].length() <= 18;
+                int cmp;
+                if (numericA && numericB) {
+                    cmp = Long.compare(Long.parseLong(partsA[i]), Long.parseLong(partsB[i]));
+                } else if (numericA || numericB) {
+                    cmp = numericA ? -1 : 1;
+                } else {
+                    cmp = partsA[i].compareTo(partsB[i]);
+                }
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return Integer.compare(partsA.length, partsB.length);
+        }
+
+        private static String stripBuild(String version) {
+            int plus = version.indexOf('+');
+            return plus < 0 ? version : version.substring(0, plus);
+        }
+
+        private static boolean isNumeric(String value) {
+            if (value.isEmpty()) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (!Character.isDigit(value.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static String nullToEmpty(String value) {
+            return value == null ? "" : value;
+        }
+    }
+}
@@ -4,17 +4,25 @@ import com.aipaas.anycloud.error.exception.HelmChartNotFoundException;
 import com.aipaas.anycloud.model.dto.response.ChartDetailDto;
 import com.aipaas.anycloud.model.dto.response.ChartListDto;
 import com.aipaas.anycloud.model.dto.response.ChartReleasesResponseDto;
+import com.aipaas.anycloud.util.HelmProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.LoaderOptions;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.StreamSupport;
 
 /**
  * <pre>
@@ -28,68 +36,96 @@ import java.util.stream.StreamSupport;
 @Component
 public class ChartParser {
 
-    private final ObjectMapper yamlMapper = new ObjectMapper(new YAMLFactory());
+    private final YAMLFactory yamlFactory;
+    private final ObjectMapper yamlMapper;
     private final ObjectMapper jsonMapper = new ObjectMapper();
 
+    public ChartParser(HelmProperties helmProperties) {
+        // 기본 code point 제한(3MB)으로는 대형 저장소의 index.yaml을 읽지 못하므로 설정 값으로 변경
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(helmProperties.getIndex().getCodePointLimit());
+        this.yamlFactory = YAMLFactory.builder().loaderOptions(loaderOptions).build();
+        this.yamlMapper = new ObjectMapper(yamlFactory);
+    }
+
     /**
-     * index.yaml 내용을 파싱하여 차트 목록을 생성합니다.
+     * index.yaml을 토큰 단위로 읽어 차트 카탈로그를 생성합니다.
+     * 문서 전체를 트리로 만들지 않고, 조회에 쓰는 필드만 보관합니다.
+     *
+     * @param repositoryName Repository 이름
+     * @param indexContent   index.yaml 스트림 (HTTP 응답 본문)
+     * @return 차트 카탈로그
      */
-    public ChartListDto parseIndexYaml(String repositoryName, String indexContent) {
-        try {
-            JsonNode rootNode = yamlMapper.readTree(indexContent);
-            JsonNode entriesNode = rootNode.get("entries");
-
-            List<ChartListDto.ChartInfo> charts = new ArrayList<>();
-
-            if (entriesNode != null && entriesNode.isObject()) {
-                entriesNode.fieldNames().forEachRemaining(chartName -> {
-                    JsonNode chartVersions = entriesNode.get(chartName);
-                    if (chartVersions.isArray() && chartVersions.size() > 0) {
-                        // 최신 버전만 사용 (첫 번째 요소)
-                        JsonNode latestVersion = chartVersions.get(0);
-                        JsonNode keywordsNode = latestVersion.path("keywords");
-                        String[] keywords = null;
-                        if (keywordsNode.isArray()) {
-                            keywords = StreamSupport.stream(keywordsNode.spliterator(), false)
-                                    .map(JsonNode::asText)
-                                    .toArray(String[]::new);
-                        }
-
-                        // versionHistory 처리
-                        List<ChartDetailDto.VersionHistory> versionHistory = StreamSupport
-                                .stream(chartVersions.spliterator(), false)
-                                .map(v -> ChartDetailDto.VersionHistory.builder()
-                                        .version(v.path("version").asText())
-                                        .appVersion(v.path("appVersion").asText())
-                                        .created(v.path("created").asText(null))
-                                        .build())
-                                .toList();
-
-                        charts.add(ChartListDto.ChartInfo.builder()
-                                .name(chartName)
-                                .version(latestVersion.path("version").asText())
-                                .description(latestVersion.path("description").asText(null))
-                                .appVersion(latestVersion.path("appVersion").asText(null))
-                                .keywords(keywords)
-                                .icon(latestVersion.path("icon").asText(null))
-                                .created(latestVersion.path("created").asText(null))
-                                .versionHistory(versionHistory)
-                                .build());
+    public ChartCatalog readCatalog(String repositoryName, InputStream indexContent) {
+        long started = System.currentTimeMillis();
+        StringPool pool = new StringPool();
+        Map<String, ChartCatalog.Chart> charts = new LinkedHashMap<>();
+
+        try (JsonParser parser = yamlFactory.createParser(indexContent)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new HelmChartNotFoundException("Invalid repository index: " + repositoryName);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_OBJECT || !"entries".equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                // entries: { 차트 이름: [ 버전, ... ] }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String chartName = pool.string(parser.currentName());
+                    List<ChartCatalog.Version> versions = readVersions(parser, pool);
+                    if (!versions.isEmpty()) {
+                        charts.put(chartName, new ChartCatalog.Chart(chartName, versions));
                     }
-                });
+                }
             }
-
-            log.info("Parsed {} charts from repository: {}", charts.size(), repositoryName);
-
-            return ChartListDto.builder()
-                    .repositoryName(repositoryName)
-                    .charts(charts)
-                    .build();
-
+        } catch (HelmChartNotFoundException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to parse index.yaml for repository: {}", repositoryName, e);
             throw new HelmChartNotFoundException("Failed to parse repository index: " + repositoryName);
         }
+
+        ChartCatalog catalog = new ChartCatalog(charts);
+        log.info("Parsed {} charts ({} versions) from repository: {} in {} ms", catalog.size(),
+                catalog.versionCount(), repositoryName, System.currentTimeMillis() - started);
+        return catalog;
+    }
+
+    /**
+     * index.yaml 내용을 파싱하여 차트 목록을 생성합니다.
+     */
+    public ChartListDto parseIndexYaml(String repositoryName, String indexContent) {
+        return parseIndexYaml(repositoryName,
+                readCatalog(repositoryName, new ByteArrayInputStream(indexContent.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * 차트 카탈로그로 차트 목록을 생성합니다. 각 차트는 최신 버전 정보를 사용합니다.
+     */
+    public ChartListDto parseIndexYaml(String repositoryName, ChartCatalog catalog) {
+        List<ChartListDto.ChartInfo> charts = new ArrayList<>(catalog.size());
+        for (ChartCatalog.Chart chart : catalog.charts()) {
+            ChartCatalog.Version latestVersion = chart.latest();
+            charts.add(ChartListDto.ChartInfo.builder()
+                    .name(chart.getName())
+                    .version(emptyIfNull(latestVersion.getVersion()))
+                    .description(latestVersion.getDescription())
+                    .appVersion(latestVersion.getAppVersion())
+                    .keywords(copy(latestVersion.getKeywords()))
+                    .icon(latestVersion.getIcon())
+                    .created(latestVersion.getCreated())
+                    .versionHistory(versionHistory(chart))
+                    .build());
+        }
+
+        log.debug("Built {} charts for repository: {}", charts.size(), repositoryName);
+
+        return ChartListDto.builder()
+                .repositoryName(repositoryName)
+                .charts(charts)
+                .build();
     }
 
     /**
@@ -103,107 +139,272 @@ public class ChartParser {
      */
     public ChartDetailDto parseChartDetail(String repositoryName, String targetChartName, String targetVersion,
             String indexContent) {
-        try {
-            JsonNode rootNode = yamlMapper.readTree(indexContent);
-            JsonNode entriesNode = rootNode.get("entries");
-
-            if (entriesNode != null && entriesNode.has(targetChartName)) {
-                JsonNode chartVersions = entriesNode.get(targetChartName);
-                if (chartVersions.isArray() && chartVersions.size() > 0) {
-                    // 버전이 지정된 경우 해당 버전을 찾고, 없으면 최신 버전 사용
-                    JsonNode selectedVersion = null;
-                    if (targetVersion != null && !targetVersion.trim().isEmpty()) {
-                        for (JsonNode versionNode : chartVersions) {
-                            if (targetVersion.equals(versionNode.path("version").asText())) {
-                                selectedVersion = versionNode;
-                                break;
-                            }
-                        }
-                        if (selectedVersion == null) {
-                            throw new HelmChartNotFoundException(
-                                    "Chart version not found: " + targetVersion + " for chart: " + targetChartName);
-                        }
-                    } else {
-                        // 최신 버전 정보 사용 (첫 번째 요소)
-                        selectedVersion = chartVersions.get(0);
-                    }
+        return parseChartDetail(repositoryName, targetChartName, targetVersion,
+                readCatalog(repositoryName, new ByteArrayInputStream(indexContent.getBytes(StandardCharsets.UTF_8))));
+    }
 
-                    // keywords 처리
-                    JsonNode keywordsNode = selectedVersion.path("keywords");
-                    String[] keywords = null;
-                    if (keywordsNode.isArray()) {
-                        keywords = StreamSupport.stream(keywordsNode.spliterator(), false)
-                                .map(JsonNode::asText)
-                                .toArray(String[]::new);
-                    }
+    /**
+     * 차트 카탈로그에서 특정 차트의 상세 정보를 생성합니다.
+     *
+     * @param repositoryName  Repository 이름
+     * @param targetChartName 차트 이름
+     * @param targetVersion   차트 버전 (null일 경우 최신 버전)
+     * @param catalog         차트 카탈로그
+     * @return 차트 상세 정보
+     */
+    public ChartDetailDto parseChartDetail(String repositoryName, String targetChartName, String targetVersion,
+            ChartCatalog catalog) {
+        ChartCatalog.Chart chart = catalog.chart(targetChartName);
+        if (chart == null) {
+            throw new HelmChartNotFoundException(
+                    "Chart not found: " + targetChartName + " in repository: " + repositoryName);
+        }
 
-                    // maintainers 처리
-                    JsonNode maintainersNode = selectedVersion.path("maintainers");
-                    List<Map<String, Object>> maintainers = null;
-                    if (maintainersNode.isArray()) {
-                        maintainers = StreamSupport.stream(maintainersNode.spliterator(), false)
-                                .map(node -> {
-                                    Map<String, Object> map = new HashMap<>();
-                                    node.fieldNames().forEachRemaining(field -> {
-                                        map.put(field, node.path(field).asText(null));
-                                    });
-                                    return map;
-                                })
-                                .toList();
-                    }
+        // 버전이 지정된 경우 해당 버전을 찾고, 없으면 최신 버전 사용
+        ChartCatalog.Version selectedVersion;
+        if (targetVersion != null && !targetVersion.trim().isEmpty()) {
+            selectedVersion = chart.find(targetVersion);
+            if (selectedVersion == null) {
+                throw new HelmChartNotFoundException(
+                        "Chart version not found: " + targetVersion + " for chart: " + targetChartName);
+            }
+        } else {
+            selectedVersion = chart.latest();
+        }
 
-                    // dependencies 처리
-                    JsonNode dependenciesNode = selectedVersion.path("dependencies");
-                    List<ChartDetailDto.Dependency> dependencies = null;
-                    if (dependenciesNode.isArray()) {
-                        dependencies = StreamSupport.stream(dependenciesNode.spliterator(), false)
-                                .map(dep -> ChartDetailDto.Dependency.builder()
-                                        .name(dep.path("name").asText(null))
-                                        .version(dep.path("version").asText(null))
-                                        .repository(dep.path("repository").asText(null))
-                                        .build())
-                                .toList();
-                    }
+        // maintainers 처리
+        List<Map<String, Object>> maintainers = null;
+        if (selectedVersion.getMaintainers() != null) {
+            maintainers = new ArrayList<>(selectedVersion.getMaintainers().length);
+            for (String[] fields : selectedVersion.getMaintainers()) {
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; i + 1 < fields.length; i += 2) {
+                    map.put(fields[i], fields[i + 1]);
+                }
+                maintainers.add(map);
+            }
+        }
+
+        // dependencies 처리
+        List<ChartDetailDto.Dependency> dependencies = null;
+        if (selectedVersion.getDependencies() != null) {
+            String[] fields = selectedVersion.getDependencies();
+            dependencies = new ArrayList<>(fields.length / 3);
+            for (int i = 0; i + 2 < fields.length; i += 3) {
+                dependencies.add(ChartDetailDto.Dependency.builder()
+                        .name(fields[i])
+                        .version(fields[i + 1])
+                        .repository(fields[i + 2])
+                        .build());
+            }
+        }
 
-                    // versionHistory 처리 (모든 버전 정보)
-                    List<ChartDetailDto.VersionHistory> versionHistory = StreamSupport
-                            .stream(chartVersions.spliterator(), false)
-                            .map(v -> ChartDetailDto.VersionHistory.builder()
-                                    .version(v.path("version").asText())
-                                    .appVersion(v.path("appVersion").asText())
-                                    .created(v.path("created").asText(null))
-                                    .build())
-                            .toList();
-
-                    return ChartDetailDto.builder()
-                            .repositoryName(repositoryName)
-                            .name(targetChartName)
-                            .version(selectedVersion.path("version").asText())
-                            .description(selectedVersion.path("description").asText(null))
-                            .appVersion(selectedVersion.path("appVersion").asText(null))
-                            .keywords(keywords)
-                            .created(selectedVersion.path("created").asText(null))
-                            .maintainers(maintainers)
-                            .source(selectedVersion.path("sources").isArray() &&
-                                    selectedVersion.path("sources").size() > 0
-                                            ? selectedVersion.path("sources").get(0).asText(null)
-                                            : null)
-                            .home(selectedVersion.path("home").asText(null))
-                            .icon(selectedVersion.path("icon").asText(null))
-                            .dependencies(dependencies)
-                            .versionHistory(versionHistory)
-                            .build();
+        return ChartDetailDto.builder()
+                .repositoryName(repositoryName)
+                .name(targetChartName)
+                .version(emptyIfNull(selectedVersion.getVersion()))
+                .description(selectedVersion.getDescription())
+                .appVersion(selectedVersion.getAppVersion())
+                .keywords(copy(selectedVersion.getKeywords()))
+                .created(selectedVersion.getCreated())
+                .maintainers(maintainers)
+                .source(selectedVersion.getSource())
+                .home(selectedVersion.getHome())
+                .icon(selectedVersion.getIcon())
+                .dependencies(dependencies)
+                .versionHistory(versionHistory(chart))
+                .build();
+    }
+
+    /**
+     * 차트의 모든 버전 정보를 최신 순으로 반환합니다.
+     */
+    private static List<ChartDetailDto.VersionHistory> versionHistory(ChartCatalog.Chart chart) {
+        return chart.getVersions().stream()
+                .map(v -> ChartDetailDto.VersionHistory.builder()
+                        .version(emptyIfNull(v.getVersion()))
+                        .appVersion(emptyIfNull(v.getAppVersion()))
+                        .created(v.getCreated())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * entries의 차트 하나에 해당하는 버전 배열을 읽습니다.
+     */
+    private List<ChartCatalog.Version> readVersions(JsonParser parser, StringPool pool) throws IOException {
+        List<ChartCatalog.Version> versions = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return versions;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                versions.add(readVersion(parser, pool));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * 버전 하나를 읽습니다. 조회에 쓰지 않는 필드(digest, urls, annotations 등)는 건너뜁니다.
+     */
+    private ChartCatalog.Version readVersion(JsonParser parser, StringPool pool) throws IOException {
+        String version = null;
+        String appVersion = null;
+        String description = null;
+        String created = null;
+        String icon = null;
+        String home = null;
+        String source = null;
+        String[] keywords = null;
+        String[][] maintainers = null;
+        String[] dependencies = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "version" -> version = scalar(parser, pool);
+                case "appVersion" -> appVersion = scalar(parser, pool);
+                case "description" -> description = scalar(parser, pool);
+                case "created" -> created = scalar(parser, pool);
+                case "icon" -> icon = scalar(parser, pool);
+                case "home" -> home = scalar(parser, pool);
+                case "keywords" -> keywords = scalars(parser, pool);
+                case "sources" -> {
+                    String[] sources = scalars(parser, pool);
+                    source = sources != null && sources.length > 0 ? sources[0] : null;
                 }
+                case "maintainers" -> maintainers = readMaintainers(parser, pool);
+                case "dependencies" -> dependencies = readDependencies(parser, pool);
+                default -> parser.skipChildren();
             }
+        }
+        return new ChartCatalog.Version(version, appVersion, description, created, icon, home, source, keywords,
+                maintainers, dependencies);
+    }
 
-            throw new HelmChartNotFoundException(
-                    "Chart not found: " + targetChartName + " in repository: " + repositoryName);
+    private static String[][] readMaintainers(JsonParser parser, StringPool pool) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String[]> maintainers = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            List<String> fields = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = pool.string(parser.currentName());
+                parser.nextToken();
+                fields.add(field);
+                fields.add(scalar(parser, pool));
+            }
+            maintainers.add(fields.toArray(String[]::new));
+        }
+        return maintainers.toArray(String[][]::new);
+    }
 
-        } catch (HelmChartNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to parse chart detail for: {}/{}", repositoryName, targetChartName, e);
-            throw new HelmChartNotFoundException("Failed to parse chart detail: " + targetChartName);
+    private static String[] readDependencies(JsonParser parser, StringPool pool) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String> dependencies = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            String name = null;
+            String version = null;
+            String repository = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "name" -> name = scalar(parser, pool);
+                    case "version" -> version = scalar(parser, pool);
+                    case "repository" -> repository = scalar(parser, pool);
+                    default -> parser.skipChildren();
+                }
+            }
+            dependencies.add(name);
+            dependencies.add(version);
+            dependencies.add(repository);
+        }
+        return dependencies.toArray(String[]::new);
+    }
+
+    /**
+     * 현재 토큰이 스칼라 값이면 문자열로 반환하고, 객체/배열이면 건너뛰고 null을 반환합니다.
+     */
+    private static String scalar(JsonParser parser, StringPool pool) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return pool.string(parser.getText());
+    }
+
+    /**
+     * 현재 토큰이 배열이면 스칼라 요소들을 반환합니다. 배열이 아니면 null입니다.
+     */
+    private static String[] scalars(JsonParser parser, StringPool pool) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            String value = scalar(parser, pool);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return pool.strings(values);
+    }
+
+    private static String emptyIfNull(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String[] copy(String[] values) {
+        return values == null ? null : values.clone();
+    }
+
+    /**
+     * 카탈로그 하나를 만드는 동안 같은 문자열/문자열 배열을 하나의 인스턴스로 공유하기 위한 pool입니다.
+     * 전역 String.intern()과 달리 카탈로그가 버려지면 함께 정리됩니다.
+     */
+    private static final class StringPool {
+
+        private final Map<String, String> strings = new HashMap<>();
+        private final Map<List<String>, String[]> arrays = new HashMap<>();
+
+        private String string(String value) {
+            if (value == null) {
+                return null;
+            }
+            String pooled = strings.putIfAbsent(value, value);
+            return pooled != null ? pooled : value;
+        }
+
+        private String[] strings(List<String> values) {
+            return arrays.computeIfAbsent(values, key -> key.toArray(String[]::new));
         }
     }
 
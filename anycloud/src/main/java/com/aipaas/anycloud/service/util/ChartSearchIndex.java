@@ -0,0 +1,407 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.error.enums.ErrorCode;
+import com.aipaas.anycloud.error.exception.CustomException;
+import com.aipaas.anycloud.model.dto.response.ChartSearchDto;
+import com.aipaas.anycloud.model.entity.HelmRepoEntity;
+import com.aipaas.anycloud.repository.HelmRepoRepository;
+import com.aipaas.anycloud.util.HelmProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <pre>
+ * ClassName : ChartSearchIndex
+ * Type : class
+ * Description : 등록된 모든 Helm 저장소의 차트를 검색하기 위한 메모리 역색인 클래스입니다.
+ *  - 차트 이름(전체/토큰), 키워드, 설명 단어를 정렬된 용어 배열로 색인하여 완전 일치와 접두어 검색을 이진 탐색으로 처리
+ *  - 차트 이름의 3-gram 색인으로 이름 중간에 포함된 검색어도 검색
+ *  - 저장소마다 별도의 색인(segment)을 두고, HelmIndexCache의 카탈로그가 바뀐 저장소만 다시 색인
+ *  - 색인 갱신은 백그라운드에서 주기적으로 수행하고, 검색은 메모리의 색인만 사용 (검색 중 DB/저장소 호출 없음)
+ *  - 새로 등록한 저장소는 다음 갱신 주기부터 검색되며, 삭제한 저장소는 바로 검색에서 제외
+ *  - 검색어의 모든 단어가 일치하는 차트만 반환하며, 일치한 필드와 방식에 따라 점수를 매겨 정렬
+ * Related : ChartServiceImpl, HelmIndexCache, ChartCatalog
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartSearchIndex {
+
+    private static final int FIELD_NAME = 0;
+    private static final int FIELD_NAME_TOKEN = 1;
+    private static final int FIELD_KEYWORD = 2;
+    private static final int FIELD_DESCRIPTION = 3;
+
+    // 필드별 {완전 일치, 접두어 일치} 점수
+    private static final int[][] WEIGHTS = { { 100, 60 }, { 40, 25 }, { 20, 12 }, { 5, 3 } };
+
+    // 이름 중간에 포함된 경우의 점수
+    private static final int SUBSTRING_WEIGHT = 10;
+
+    private static final int GRAM = 3;
+
+    private final HelmRepoRepository helmRepoRepository;
+    private final HelmIndexCache helmIndexCache;
+    private final HelmProperties helmProperties;
+
+    // 저장소 ID별 색인
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    // 삭제된 저장소 ID와 삭제 시각, 삭제 전에 시작한 갱신이 색인을 다시 추가하지 않도록 보관
+    private final Map<String, Long> removed = new ConcurrentHashMap<>();
+
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 시작 시 색인을 만듭니다. 저장소 응답이 느려도 기동이 늦어지지 않도록 별도 스레드에서 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        Thread.ofVirtual().name("chart-search-init").start(this::refresh);
+    }
+
+    /**
+     * 등록된 저장소의 색인을 갱신합니다. 카탈로그가 바뀐 저장소만 다시 색인하고, 삭제된 저장소의 색인은 버립니다.
+     * 캐시 유지 시간이 지난 저장소는 조건부 요청이 필요하므로 저장소별로 동시에 확인합니다.
+     * 시작 시 갱신과 주기 갱신이 겹치지 않도록 한 번에 하나만 수행합니다.
+     */
+    @Scheduled(initialDelayString = "${helm.search.refresh-interval:60000}",
+            fixedDelayString = "${helm.search.refresh-interval:60000}")
+    public synchronized void refresh() {
+        long started = System.currentTimeMillis();
+        List<HelmRepoEntity> repositories;
+        try {
+            repositories = helmRepoRepository.findAll();
+        } catch (Exception e) {
+            log.warn("Failed to load helm repositories for chart search: {}", e.getMessage());
+            return;
+        }
+
+        Set<String> ids = new HashSet<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(repositories.size());
+        for (HelmRepoEntity repository : repositories) {
+            ids.add(repository.getId());
+            futures.add(CompletableFuture.runAsync(() -> refresh(repository), refreshExecutor));
+        }
+        segments.keySet().retainAll(ids);
+        futures.forEach(CompletableFuture::join);
+        // 삭제 이후에 시작한 갱신은 DB에서 저장소를 읽지 않으므로 더 이상 보관할 필요 없음
+        removed.values().removeIf(removedAt -> removedAt < started);
+    }
+
+    /**
+     * 저장소의 색인을 검색에서 제외합니다. 저장소 삭제가 커밋된 후에 호출해야 합니다.
+     *
+     * @param repositoryId 저장소 ID
+     */
+    public void remove(String repositoryId) {
+        removed.put(repositoryId, System.currentTimeMillis());
+        segments.remove(repositoryId);
+    }
+
+    /**
+     * 모든 저장소에서 차트를 검색합니다.
+     *
+     * @param query 검색어 (공백으로 구분된 단어는 모두 일치해야 함)
+     * @param page  페이지 번호 (0부터 시작)
+     * @param size  페이지 크기 (null이면 기본값)
+     * @return 검색 결과
+     */
+    public ChartSearchDto search(String query, int page, Integer size) {
+        long started = System.currentTimeMillis();
+        String[] tokens = tokenize(query).toArray(String[]::new);
+        if (tokens.length == 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "q", query, "검색어를 입력해야 합니다.");
+        }
+        if (page < 0) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "page", String.valueOf(page),
+                    "페이지 번호는 0 이상이어야 합니다.");
+        }
+        HelmProperties.Search properties = helmProperties.getSearch();
+        int pageSize = size == null || size <= 0 ? properties.getDefaultSize() : Math.min(size, properties.getMaxSize());
+
+        List<Segment> current = List.copyOf(segments.values());
+        List<Hit> hits = new ArrayList<>();
+        for (Segment segment : current) {
+            segment.search(tokens, hits);
+        }
+        hits.sort(Comparator.comparingInt(Hit::score).reversed()
+                .thenComparingInt(hit -> hit.name().length())
+                .thenComparing(Hit::name)
+                .thenComparing(hit -> hit.segment().repositoryName));
+
+        int from = (int) Math.min((long) page * pageSize, hits.size());
+        int to = Math.min(from + pageSize, hits.size());
+        List<ChartSearchDto.Result> results = new ArrayList<>(to - from);
+        for (Hit hit : hits.subList(from, to)) {
+            ChartCatalog.Version latest = hit.segment().charts[hit.doc()].latest();
+            results.add(ChartSearchDto.Result.builder()
+                    .repositoryName(hit.segment().repositoryName)
+                    .name(hit.name())
+                    .version(latest.getVersion())
+                    .appVersion(latest.getAppVersion())
+                    .description(latest.getDescription())
+                    .keywords(latest.getKeywords() != null ? latest.getKeywords().clone() : null)
+                    .icon(latest.getIcon())
+                    .score(hit.score())
+                    .build());
+        }
+
+        long elapsed = System.currentTimeMillis() - started;
+        log.debug("Chart search '{}' matched {} charts in {} repositories in {} ms", query, hits.size(),
+                current.size(), elapsed);
+        return ChartSearchDto.builder()
+                .query(query)
+                .page(page)
+                .size(pageSize)
+                .totalCount(hits.size())
+                .repositoryCount(current.size())
+                .elapsedMillis(elapsed)
+                .results(results)
+                .build();
+    }
+
+    private void refresh(HelmRepoEntity repository) {
+        Segment current = segments.get(repository.getId());
+        ChartCatalog catalog;
+        try {
+            catalog = helmIndexCache.get(repository);
+        } catch (RuntimeException e) {
+            // 이전 색인이 있으면 계속 사용
+            log.warn("Failed to load index of repository {} for chart search: {}", repository.getName(),
+                    e.getMessage());
+            return;
+        }
+        if (removed.containsKey(repository.getId())) {
+            // 갱신 중에 삭제된 저장소, HelmIndexCache.get()으로 다시 만들어진 캐시도 제거
+            helmIndexCache.invalidate(repository.getId());
+            return;
+        }
+        if (current != null && current.catalog == catalog && current.repositoryName.equals(repository.getName())) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        Segment segment = new Segment(repository.getName(), catalog);
+        // 색인을 만드는 동안 삭제된 저장소는 다시 추가하지 않음
+        Segment indexed = segments.compute(repository.getId(),
+                (id, existing) -> removed.containsKey(id) ? null : segment);
+        if (indexed == null) {
+            helmIndexCache.invalidate(repository.getId());
+            return;
+        }
+        log.info("Indexed {} charts of repository {} for search ({} terms) in {} ms", segment.charts.length,
+                repository.getName(), segment.terms.length, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 영문자/숫자 이외의 문자로 나눈 소문자 단어 목록입니다.
+     */
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private record Hit(Segment segment, int doc, String name, int score) {
+    }
+
+    /**
+     * 저장소 하나의 검색 색인입니다. 생성 후 변경되지 않으므로 여러 요청이 동시에 사용해도 안전합니다.
+     */
+    private static final class Segment {
+
+        private final String repositoryName;
+        private final ChartCatalog catalog;
+        private final ChartCatalog.Chart[] charts;
+
+        // 소문자 차트 이름
+        private final String[] names;
+
+        // 정렬된 용어와 용어별 [차트 번호 << 2 | 필드] 목록
+        private final String[] terms;
+        private final int[][] postings;
+
+        // 차트 이름 3-gram별 차트 번호 목록 (오름차순)
+        private final Map<String, int[]> grams;
+
+        private Segment(String repositoryName, ChartCatalog catalog) {
+            this.repositoryName = repositoryName;
+            this.catalog = catalog;
+            this.charts = catalog.charts().toArray(ChartCatalog.Chart[]::new);
+            this.names = new String[charts.length];
+
+            Map<String, List<Integer>> termPostings = new HashMap<>();
+            Map<String, List<Integer>> gramPostings = new HashMap<>();
+            for (int doc = 0; doc < charts.length; doc++) {
+                names[doc] = charts[doc].getName().toLowerCase();
+                ChartCatalog.Version latest = charts[doc].latest();
+
+                add(termPostings, names[doc], doc, FIELD_NAME);
+                for (String token : tokenize(names[doc])) {
+                    add(termPostings, token, doc, FIELD_NAME_TOKEN);
+                }
+                if (latest.getKeywords() != null) {
+                    for (String keyword : latest.getKeywords()) {
+                        for (String token : tokenize(keyword)) {
+                            add(termPostings, token, doc, FIELD_KEYWORD);
+                        }
+                    }
+                }
+                for (String token : tokenize(latest.getDescription())) {
+                    add(termPostings, token, doc, FIELD_DESCRIPTION);
+                }
+
+                Set<String> docGrams = new HashSet<>();
+                for (int i = 0; i + GRAM <= names[doc].length(); i++) {
+                    docGrams.add(names[doc].substring(i, i + GRAM));
+                }
+                for (String gram : docGrams) {
+                    gramPostings.computeIfAbsent(gram, key -> new ArrayList<>()).add(doc);
+                }
+            }
+
+            this.terms = termPostings.keySet().toArray(String[]::new);
+            Arrays.sort(terms);
+            this.postings = new int[terms.length][];
+            for (int i = 0; i < terms.length; i++) {
+                postings[i] = termPostings.get(terms[i]).stream().mapToInt(Integer::intValue).toArray();
+            }
+            this.grams = new HashMap<>(gramPostings.size() * 2);
+            gramPostings.forEach((gram, docs) -> grams.put(gram, docs.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        private static void add(Map<String, List<Integer>> termPostings, String term, int doc, int field) {
+            List<Integer> list = termPostings.computeIfAbsent(term, key -> new ArrayList<>());
+            int posting = doc << 2 | field;
+            // 같은 차트에서 같은 필드에 반복된 단어는 한 번만 기록
+            if (list.isEmpty() || list.get(list.size() - 1) != posting) {
+                list.add(posting);
+            }
+        }
+
+        /**
+         * 모든 단어가 일치하는 차트를 hits에 추가합니다. 점수는 단어별 최고 점수의 합입니다.
+         */
+        private void search(String[] tokens, List<Hit> hits) {
+            int[] scores = null;
+            for (String token : tokens) {
+                int[] tokenScores = new int[charts.length];
+                if (!score(token, tokenScores)) {
+                    return;
+                }
+                if (scores == null) {
+                    scores = tokenScores;
+                    continue;
+                }
+                for (int doc = 0; doc < scores.length; doc++) {
+                    scores[doc] = scores[doc] == 0 || tokenScores[doc] == 0 ? 0 : scores[doc] + tokenScores[doc];
+                }
+            }
+            for (int doc = 0; doc < scores.length; doc++) {
+                if (scores[doc] > 0) {
+                    hits.add(new Hit(this, doc, charts[doc].getName(), scores[doc]));
+                }
+            }
+        }
+
+        /**
+         * 단어 하나의 차트별 점수를 계산합니다.
+         *
+         * @return 일치한 차트가 있으면 true
+         */
+        private boolean score(String token, int[] scores) {
+            boolean matched = false;
+
+            // 접두어가 같은 용어는 정렬된 배열에서 연속되어 있음
+            int from = Arrays.binarySearch(terms, token);
+            for (int i = from >= 0 ? from : -from - 1; i < terms.length && terms[i].startsWith(token); i++) {
+                int match = terms[i].length() == token.length() ? 0 : 1;
+                for (int posting : postings[i]) {
+                    int doc = posting >>> 2;
+                    int weight = WEIGHTS[posting & 3][match];
+                    if (weight > scores[doc]) {
+                        scores[doc] = weight;
+                    }
+                    matched = true;
+                }
+            }
+
+            if (token.length() >= GRAM) {
+                for (int doc : substringCandidates(token)) {
+                    if (scores[doc] < SUBSTRING_WEIGHT && names[doc].contains(token)) {
+                        scores[doc] = SUBSTRING_WEIGHT;
+                        matched = true;
+                    }
+                }
+            }
+            return matched;
+        }
+
+        /**
+         * 단어의 모든 3-gram을 이름에 포함한 차트 번호입니다. 실제 포함 여부는 호출하는 쪽에서 확인합니다.
+         */
+        private int[] substringCandidates(String token) {
+            int[] candidates = null;
+            for (int i = 0; i + GRAM <= token.length(); i++) {
+                int[] docs = grams.get(token.substring(i, i + GRAM));
+                if (docs == null) {
+                    return new int[0];
+                }
+                candidates = candidates == null ? docs : intersect(candidates, docs);
+                if (candidates.length == 0) {
+                    break;
+                }
+            }
+            return candidates;
+        }
+
+        private static int[] intersect(int[] a, int[] b) {
+            int[] result = new int[Math.min(a.length, b.length)];
+            int count = 0;
+            for (int i = 0, j = 0; i < a.length && j < b.length;) {
+                if (a[i] < b[j]) {
+                    i++;
+                } else if (a[i] > b[j]) {
+                    j++;
+                } else {
+                    result[count++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+}
@@ -23,7 +23,7 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class ChartValidator {
 
-    private final HelmCommandExecutor helmCommandExecutor;
+    private final HelmRepositoryManager helmRepositoryManager;
 
     /**
      * 릴리즈 이름 중복을 체크합니다 (비동기 실행 전 사전 검증).
@@ -96,57 +96,33 @@ public class ChartValidator {
     public void checkHelmRepositoryConnectivity(HelmRepoEntity repository) throws Exception {
         log.info("Checking Helm repository connectivity for: {}", repository.getName());
         
-        // helm repo add + update 명령어로 repository 접근 테스트
-        String repoAddCommand = helmCommandExecutor.buildHelmRepoAddCommand(repository);
-        String updateCommand = "helm repo update " + repository.getName();
-        String combinedCommand = repoAddCommand + " && " + updateCommand;
-        
-        ProcessBuilder processBuilder = new ProcessBuilder();
-        processBuilder.command("sh", "-c", combinedCommand);
-        processBuilder.redirectErrorStream(true);
-        
-        Process process = processBuilder.start();
-        
-        StringBuilder output = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                output.append(line).append("\n");
-            }
-        }
-        
-        boolean finished = process.waitFor(20, TimeUnit.SECONDS);
-        if (!finished) {
-            process.destroyForcibly();
-            throw new HelmDeploymentException(
-                "Helm repository connection timeout. Repository '" + repository.getName() + 
-                "' is not responding within 20 seconds. Please check repository URL: " + repository.getUrl());
-        }
-        
-        int exitCode = process.exitValue();
-        String commandOutput = output.toString();
-        
-        if (exitCode != 0) {
+        // 저장소별 디렉터리에 등록된 저장소의 index를 갱신하여 repository 접근 테스트 (배포 시 최신 index 사용)
+        // 주기 갱신/삭제와 겹치지 않도록 HelmRepositoryManager의 저장소 lock 안에서 실행
+        try {
+            helmRepositoryManager.update(repository);
+        } catch (HelmDeploymentException e) {
+            String commandOutput = e.getMessage();
             log.error("Helm repository connectivity test failed for: {}. Output: {}", repository.getName(), commandOutput);
-            
-            if (commandOutput.contains("context deadline exceeded") || 
+
+            if (commandOutput.contains("timed out after") ||
+                commandOutput.contains("context deadline exceeded") || 
                 commandOutput.contains("timeout") || 
                 commandOutput.contains("connection timed out")) {
                 throw new HelmDeploymentException(
                     "Helm repository connection timeout. Repository '" + repository.getName() + 
                     "' is not responding. Please check repository URL and network connectivity. " +
-                    "Error details: " + commandOutput);
+                    "Error details: " + commandOutput, e);
             } else if (commandOutput.contains("connection refused") || 
                       commandOutput.contains("no such host") ||
                       commandOutput.contains("network unreachable")) {
                 throw new HelmDeploymentException(
                     "Helm repository connection failed. Cannot reach repository '" + repository.getName() + 
                     "' at URL: " + repository.getUrl() + ". Please check repository URL and network connectivity. " +
-                    "Error details: " + commandOutput);
+                    "Error details: " + commandOutput, e);
             } else {
                 throw new HelmDeploymentException(
                     "Helm repository test failed for '" + repository.getName() + "'. " +
-                    "Error details: " + commandOutput);
+                    "Error details: " + commandOutput, e);
             }
         }
         
@@ -0,0 +1,77 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.model.entity.ClusterEntity;
+import com.aipaas.anycloud.repository.ClusterRepository;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * <pre>
+ * ClassName : ClusterEntityCache
+ * Type : class
+ * Description : 클러스터 엔티티 조회 결과를 메모리에 보관하는 캐시 클래스입니다.
+ *  - 리소스 조회, 모니터링 등 요청마다 클러스터 접속 정보를 조회하던 것을 캐시에서 반환
+ *  - 클러스터 생성/수정/삭제, 상태 변경 시 해당 항목을 제거 (트랜잭션 안이면 커밋 후 한 번 더 제거)
+ *  - 다른 인스턴스에서 수정한 내용은 TTL(kubernetes.cluster-cache.ttl) 안에 반영
+ *  - 존재하지 않는 클러스터는 캐시하지 않음
+ * Related : ClusterServiceImpl, MonitServiceImpl
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterEntityCache {
+
+	private final ClusterRepository clusterRepository;
+	private final KubernetesProperties kubernetesProperties;
+
+	private Cache<String, ClusterEntity> cache;
+
+	@PostConstruct
+	public void init() {
+		KubernetesProperties.ClusterCache properties = kubernetesProperties.getClusterCache();
+		cache = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofMillis(properties.getTtl()))
+			.maximumSize(properties.getMaximumSize())
+			.build();
+	}
+
+	/**
+	 * 클러스터 엔티티를 반환합니다. 캐시에 없으면 DB에서 조회하여 보관합니다.
+	 * 반환된 엔티티는 여러 요청이 함께 사용하므로 수정하지 않아야 합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 * @return 클러스터 엔티티 (없으면 empty)
+	 */
+	public Optional<ClusterEntity> get(String clusterId) {
+		if (clusterId == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(cache.get(clusterId, id -> clusterRepository.findById(id).orElse(null)));
+	}
+
+	/**
+	 * 클러스터 항목을 제거합니다.
+	 * 커밋 전에 다른 요청이 이전 값을 다시 캐시할 수 있으므로, 트랜잭션 안이면 커밋 후에도 제거합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 */
+	public void invalidate(String clusterId) {
+		cache.invalidate(clusterId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.invalidate(clusterId);
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,232 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.error.enums.ErrorCode;
+import com.aipaas.anycloud.error.exception.CustomException;
+import com.aipaas.anycloud.model.dto.response.ClusterProbeDto;
+import com.aipaas.anycloud.model.entity.ClusterEntity;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : ClusterHealthProber
+ * Type : class
+ * Description : 클러스터 API 서버의 상태를 가볍게 점검하는 클래스입니다.
+ *  - 리소스 목록 조회 대신 /readyz, /version 엔드포인트를 짧은 제한 시간으로 호출
+ *  - 정상 클러스터는 일정한 주기로, 응답하지 않는 클러스터는 지수 백오프(+지터) 간격으로 점검
+ *  - 같은 클러스터에 대한 동시 점검 요청은 하나의 점검 결과를 함께 사용 (single-flight)
+ *  - 연결 테스트는 짧은 시간 동안 마지막 점검 결과를 재사용
+ *  - 모든 점검 결과는 통계 계산을 위해 ClusterProbeStats에 기록
+ * Related : ClusterServiceImpl, KubeServiceImpl, KubernetesRawClient, ClusterProbeStats
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterHealthProber {
+
+	public static final String STATUS_ACTIVE = "ACTIVE";
+	public static final String STATUS_INACTIVE = "INACTIVE";
+
+	private static final String UNKNOWN_VERSION = "UNKNOWN";
+
+	private final KubernetesClientRegistry kubernetesClientRegistry;
+	private final KubernetesRawClient kubernetesRawClient;
+	private final ClusterProbeStats clusterProbeStats;
+	private final KubernetesProperties kubernetesProperties;
+	private final ObjectMapper objectMapper;
+
+	private final Map<String, State> states = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		// 접속 정보가 바뀌거나 클러스터가 삭제되면 이전 점검 결과와 백오프 상태를 버림
+		// (유휴 정리로 클라이언트만 닫힌 경우에는 백오프가 이어지도록 유지)
+		kubernetesClientRegistry.addInvalidateListener(states::remove);
+	}
+
+	/**
+	 * 클러스터를 즉시 점검합니다. 이미 점검 중이면 그 결과를 기다려 반환합니다.
+	 *
+	 * @param cluster 클러스터 엔티티
+	 * @return 점검 결과
+	 */
+	public ClusterProbeDto probe(ClusterEntity cluster) {
+		State state = states.computeIfAbsent(cluster.getId(), id -> new State());
+
+		CompletableFuture<ClusterProbeDto> flight;
+		boolean owner = false;
+		synchronized (state) {
+			if (state.inFlight == null) {
+				state.inFlight = new CompletableFuture<>();
+				owner = true;
+			}
+			flight = state.inFlight;
+		}
+		if (!owner) {
+			return flight.join();
+		}
+
+		ClusterProbeDto result;
+		try {
+			result = check(cluster);
+		} catch (RuntimeException e) {
+			result = inactive(cluster, 0, e.getMessage());
+		}
+		clusterProbeStats.record(cluster.getId(), result.getProbedAt().toInstant().toEpochMilli(),
+			result.getLatencyMillis(), STATUS_ACTIVE.equals(result.getStatus()));
+		synchronized (state) {
+			state.record(result, kubernetesProperties.getHealth());
+			state.inFlight = null;
+		}
+		flight.complete(result);
+		return result;
+	}
+
+	/**
+	 * 연결 테스트용 점검 결과를 반환합니다. 캐시 유지 시간 안의 결과가 있으면 점검하지 않습니다.
+	 *
+	 * @param cluster 클러스터 엔티티
+	 * @return 점검 결과
+	 */
+	public ClusterProbeDto getStatus(ClusterEntity cluster) {
+		State state = states.get(cluster.getId());
+		ClusterProbeDto last = state != null ? state.last : null;
+		if (last != null && state.age() < kubernetesProperties.getHealth().getCacheTtl()) {
+			return last;
+		}
+		return probe(cluster);
+	}
+
+	/**
+	 * 주기 점검 대상인지 확인합니다. 한 번도 점검하지 않은 클러스터는 항상 대상입니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 * @return 다음 점검 시각이 지났으면 true
+	 */
+	public boolean isDue(String clusterId) {
+		State state = states.get(clusterId);
+		return state == null || System.currentTimeMillis() >= state.nextProbeAt;
+	}
+
+	/**
+	 * 클러스터별 마지막 점검 결과를 반환합니다.
+	 */
+	public List<ClusterProbeDto> getLastProbes() {
+		return states.values().stream()
+			.map(state -> state.last)
+			.filter(Objects::nonNull)
+			.sorted(Comparator.comparing(ClusterProbeDto::getClusterName))
+			.toList();
+	}
+
+	/**
+	 * /readyz로 준비 상태를 확인하고 /version으로 버전을 조회합니다.
+	 * 권한 등으로 /readyz를 호출할 수 없는 API 서버는 /version 응답 여부로 판단합니다.
+	 */
+	private ClusterProbeDto check(ClusterEntity cluster) {
+		long started = System.currentTimeMillis();
+		long timeout = kubernetesProperties.getHealth().getTimeout();
+
+		try {
+			KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+			try {
+				drain(kubernetesRawClient.get(client, "/readyz", Collections.emptyMap(), "text/plain", timeout));
+			} catch (CustomException e) {
+				if (e.getErrorCode() != ErrorCode.FORBIDDEN && e.getErrorCode() != ErrorCode.NOT_FOUND) {
+					throw e;
+				}
+				log.debug("Cannot call /readyz on cluster {}, falling back to /version", cluster.getId());
+			}
+			String version = version(client, timeout);
+
+			return ClusterProbeDto.builder()
+				.clusterName(cluster.getId())
+				.status(STATUS_ACTIVE)
+				.version(version)
+				.latencyMillis(System.currentTimeMillis() - started)
+				.probedAt(ZonedDateTime.now())
+				.build();
+		} catch (Exception e) {
+			log.warn("Cluster {} is not accessible: {}", cluster.getId(), e.getMessage());
+			return inactive(cluster, System.currentTimeMillis() - started, e.getMessage());
+		}
+	}
+
+	private String version(KubernetesClient client, long timeout) throws IOException {
+		HttpResponse<InputStream> response =
+			kubernetesRawClient.get(client, "/version", Collections.emptyMap(), "application/json", timeout);
+		try (InputStream in = response.body()) {
+			JsonNode gitVersion = objectMapper.readTree(in).get("gitVersion");
+			return gitVersion != null && !gitVersion.asText().isEmpty() ? gitVersion.asText() : UNKNOWN_VERSION;
+		}
+	}
+
+	private static void drain(HttpResponse<InputStream> response) throws IOException {
+		try (InputStream in = response.body()) {
+			in.transferTo(OutputStream.nullOutputStream());
+		}
+	}
+
+	private static ClusterProbeDto inactive(ClusterEntity cluster, long latencyMillis, String message) {
+		return ClusterProbeDto.builder()
+			.clusterName(cluster.getId())
+			.status(STATUS_INACTIVE)
+			.version(UNKNOWN_VERSION)
+			.latencyMillis(latencyMillis)
+			.message(message)
+			.probedAt(ZonedDateTime.now())
+			.build();
+	}
+
+	/**
+	 * 클러스터 하나의 마지막 점검 결과와 다음 점검 시각입니다.
+	 */
+	private static final class State {
+
+		private volatile ClusterProbeDto last;
+		private volatile long lastProbedAt;
+		private volatile long nextProbeAt;
+		private int consecutiveFailures;
+		private CompletableFuture<ClusterProbeDto> inFlight;
+
+		private long age() {
+			return System.currentTimeMillis() - lastProbedAt;
+		}
+
+		private void record(ClusterProbeDto result, KubernetesProperties.Health health) {
+			long now = System.currentTimeMillis();
+			last = result;
+			lastProbedAt = now;
+			if (STATUS_ACTIVE.equals(result.getStatus())) {
+				consecutiveFailures = 0;
+				nextProbeAt = now + health.getInterval();
+				return;
+			}
+			// 실패가 이어질수록 간격을 두 배로 늘리고, 여러 클러스터가 같은 시각에 몰리지 않도록 지터를 적용
+			consecutiveFailures++;
+			long backoff = health.getInitialBackoff() << Math.min(consecutiveFailures - 1, 20);
+			backoff = Math.min(backoff, health.getMaxBackoff());
+			nextProbeAt = now + backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+		}
+	}
+}
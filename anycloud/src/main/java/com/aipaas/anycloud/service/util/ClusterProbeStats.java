@@ -0,0 +1,153 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.model.dto.response.ClusterProbeStatsDto;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : ClusterProbeStats
+ * Type : class
+ * Description : 클러스터별 상태 점검 결과를 고정 크기 링 버퍼로 보관하고 통계를 계산하는 클래스입니다.
+ *  - 점검 시각, 응답 시간, 성공 여부를 객체가 아닌 기본형 배열로 보관 (kubernetes.health.stats-capacity 건)
+ *  - 기간별 가용성과 성공한 점검의 응답 시간 p50/p95/p99를 계산
+ * Related : ClusterHealthProber, ClusterServiceImpl
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterProbeStats {
+
+	private final KubernetesProperties kubernetesProperties;
+
+	private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+	/**
+	 * 점검 결과를 추가합니다. 버퍼가 가득 차면 가장 오래된 결과를 덮어씁니다.
+	 *
+	 * @param clusterId     클러스터 ID
+	 * @param probedAt      점검 시각 (epoch ms)
+	 * @param latencyMillis 점검 소요 시간 (ms)
+	 * @param success       성공 여부
+	 */
+	public void record(String clusterId, long probedAt, long latencyMillis, boolean success) {
+		rings.computeIfAbsent(clusterId, id -> new Ring(kubernetesProperties.getHealth().getStatsCapacity()))
+			.add(probedAt, (int) Math.min(latencyMillis, Integer.MAX_VALUE), success);
+	}
+
+	/**
+	 * 기간별 통계를 계산합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 * @param window    기간 이름 (응답에 그대로 표시)
+	 * @param millis    기간 (ms)
+	 * @return 기간 통계
+	 */
+	public ClusterProbeStatsDto.WindowStats stats(String clusterId, String window, long millis) {
+		Ring ring = rings.get(clusterId);
+		if (ring == null) {
+			return ClusterProbeStatsDto.WindowStats.builder().window(window).build();
+		}
+		return ring.stats(window, System.currentTimeMillis() - millis);
+	}
+
+	/**
+	 * @return 보관 중인 점검 결과 수
+	 */
+	public int retained(String clusterId) {
+		Ring ring = rings.get(clusterId);
+		return ring == null ? 0 : ring.size();
+	}
+
+	public int capacity() {
+		return kubernetesProperties.getHealth().getStatsCapacity();
+	}
+
+	/**
+	 * 클러스터의 점검 결과를 삭제합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 */
+	public void remove(String clusterId) {
+		rings.remove(clusterId);
+	}
+
+	/**
+	 * 클러스터 하나의 링 버퍼입니다.
+	 */
+	private static final class Ring {
+
+		private final long[] timestamps;
+		private final int[] latencies;
+		private final boolean[] outcomes;
+		private int next;
+		private int size;
+
+		private Ring(int capacity) {
+			this.timestamps = new long[capacity];
+			this.latencies = new int[capacity];
+			this.outcomes = new boolean[capacity];
+		}
+
+		private synchronized void add(long timestamp, int latency, boolean success) {
+			timestamps[next] = timestamp;
+			latencies[next] = latency;
+			outcomes[next] = success;
+			next = (next + 1) % timestamps.length;
+			if (size < timestamps.length) {
+				size++;
+			}
+		}
+
+		private synchronized int size() {
+			return size;
+		}
+
+		private ClusterProbeStatsDto.WindowStats stats(String window, long since) {
+			int samples = 0;
+			int successes = 0;
+			int[] successLatencies;
+			synchronized (this) {
+				successLatencies = new int[size];
+				// 최신 결과부터 거꾸로 읽다가 기간을 벗어나면 중단
+				for (int i = 0, index = next; i < size; i++) {
+					index = index == 0 ? timestamps.length - 1 : index - 1;
+					if (timestamps[index] < since) {
+						break;
+					}
+					samples++;
+					if (outcomes[index]) {
+						successLatencies[successes++] = latencies[index];
+					}
+				}
+			}
+
+			ClusterProbeStatsDto.WindowStats.WindowStatsBuilder stats = ClusterProbeStatsDto.WindowStats.builder()
+				.window(window)
+				.samples(samples)
+				.successes(successes);
+			if (samples > 0) {
+				stats.availability(Math.round(successes * 10000.0 / samples) / 100.0);
+			}
+			if (successes > 0) {
+				Arrays.sort(successLatencies, 0, successes);
+				stats.p50(percentile(successLatencies, successes, 50))
+					.p95(percentile(successLatencies, successes, 95))
+					.p99(percentile(successLatencies, successes, 99));
+			}
+			return stats.build();
+		}
+
+		/**
+		 * nearest-rank 방식 백분위수
+		 */
+		private static long percentile(int[] sorted, int count, int percent) {
+			int rank = (int) Math.ceil(percent / 100.0 * count);
+			return sorted[Math.max(rank, 1) - 1];
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.repository.SchedulerMemberRepository;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : ClusterShardCoordinator
+ * Type : class
+ * Description : 여러 백엔드 인스턴스(replica)가 클러스터 상태 점검을 나눠 수행하도록 조정하는 클래스입니다.
+ *  - 각 인스턴스는 scheduler_member 테이블에 주기적으로 heartbeat를 기록 (인스턴스 시계 차이의 영향을 받지 않도록 DB 시각 사용)
+ *  - heartbeat가 유효한 인스턴스들로 consistent hash ring을 구성하고, 클러스터는 ring에서 담당 인스턴스가 점검
+ *  - 인스턴스가 종료되거나 heartbeat가 끊기면 남은 인스턴스들로 ring을 다시 구성하여 담당을 재분배
+ *  - kubernetes.coordination.enabled=false 이면 모든 클러스터를 직접 점검
+ * Related : ClusterServiceImpl, SchedulerMemberRepository
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterShardCoordinator {
+
+	private final SchedulerMemberRepository schedulerMemberRepository;
+	private final KubernetesProperties kubernetesProperties;
+
+	private final String memberId = createMemberId();
+
+	// heartbeat 기록 전에는 null (담당 클러스터 없음)
+	private volatile Ring ring;
+	private volatile long lastHeartbeatAt;
+
+	/**
+	 * heartbeat를 기록하고 살아 있는 인스턴스 목록으로 ring을 갱신합니다.
+	 */
+	@Scheduled(fixedDelayString = "${kubernetes.coordination.heartbeat-interval:10000}")
+	public void heartbeat() {
+		KubernetesProperties.Coordination coordination = kubernetesProperties.getCoordination();
+		if (!coordination.isEnabled()) {
+			return;
+		}
+		try {
+			if (schedulerMemberRepository.touch(memberId) == 0) {
+				schedulerMemberRepository.register(memberId);
+			}
+			lastHeartbeatAt = System.currentTimeMillis();
+
+			// 만료 기준은 DB가 기록한 heartbeat 시각으로 계산 (인스턴스 시계를 사용하지 않음)
+			Instant now = schedulerMemberRepository.findHeartbeatAt(memberId).orElseThrow();
+			Instant threshold = now.minusMillis(coordination.getMemberTtl());
+			int expired = schedulerMemberRepository.deleteExpired(threshold);
+			if (expired > 0) {
+				log.info("Removed {} expired scheduler members", expired);
+			}
+
+			List<String> members = new ArrayList<>(schedulerMemberRepository.findAliveMemberIds(threshold));
+			if (!members.contains(memberId)) {
+				members.add(memberId);
+			}
+			Ring current = ring;
+			if (current == null || !current.members.equals(members)) {
+				log.info("Scheduler members changed, rebuilding hash ring: {} (self: {})", members, memberId);
+				ring = new Ring(members, coordination.getVirtualNodes());
+			}
+		} catch (Exception e) {
+			log.warn("Failed to record scheduler heartbeat for {}: {}", memberId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 이 인스턴스가 클러스터의 점검을 담당하는지 확인합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 * @return 담당이면 true
+	 */
+	public boolean owns(String clusterId) {
+		KubernetesProperties.Coordination coordination = kubernetesProperties.getCoordination();
+		if (!coordination.isEnabled()) {
+			return true;
+		}
+		Ring current = ring;
+		// heartbeat가 오래 기록되지 않았으면 다른 인스턴스가 담당을 넘겨받았으므로 점검하지 않음
+		if (current == null || System.currentTimeMillis() - lastHeartbeatAt > coordination.getMemberTtl()) {
+			return false;
+		}
+		return memberId.equals(current.owner(clusterId));
+	}
+
+	public String getMemberId() {
+		return memberId;
+	}
+
+	/**
+	 * 종료 시 heartbeat를 삭제하여 다른 인스턴스가 바로 담당을 넘겨받도록 합니다.
+	 */
+	@PreDestroy
+	public void leave() {
+		if (!kubernetesProperties.getCoordination().isEnabled()) {
+			return;
+		}
+		try {
+			schedulerMemberRepository.deleteById(memberId);
+			log.info("Scheduler member {} left", memberId);
+		} catch (Exception e) {
+			log.warn("Failed to remove scheduler member {}: {}", memberId, e.getMessage());
+		}
+	}
+
+	private static String createMemberId() {
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			host = "unknown";
+		}
+		// 같은 호스트에서 재시작해도 이전 heartbeat와 구분되도록 임의 값을 덧붙임
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		String id = host + "-" + suffix;
+		return id.length() > 100 ? id.substring(id.length() - 100) : id;
+	}
+
+	private static long hash(String value) {
+		try {
+			byte[] digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+			long hash = 0;
+			for (int i = 0; i < Long.BYTES; i++) {
+				hash = (hash << 8) | (digest[i] & 0xff);
+			}
+			return hash;
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("MD5 is not available", e);
+		}
+	}
+
+	/**
+	 * 인스턴스마다 가상 노드를 두어 클러스터가 고르게 나뉘도록 한 consistent hash ring입니다.
+	 * 인스턴스가 추가/제거되면 해당 인스턴스 몫의 클러스터만 담당이 바뀝니다.
+	 */
+	private static final class Ring {
+
+		private final List<String> members;
+		private final NavigableMap<Long, String> nodes = new TreeMap<>();
+
+		private Ring(List<String> members, int virtualNodes) {
+			this.members = List.copyOf(members);
+			for (String member : members) {
+				for (int i = 0; i < virtualNodes; i++) {
+					nodes.put(hash(member + "#" + i), member);
+				}
+			}
+		}
+
+		private String owner(String key) {
+			Map.Entry<Long, String> entry = nodes.ceilingEntry(hash(key));
+			return (entry != null ? entry : nodes.firstEntry()).getValue();
+		}
+	}
+}
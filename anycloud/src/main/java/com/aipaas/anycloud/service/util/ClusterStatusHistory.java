@@ -0,0 +1,73 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.model.dto.response.ClusterStatusHistoryDto;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : ClusterStatusHistory
+ * Type : class
+ * Description : 클러스터 상태/버전 변경 이력을 메모리에 보관하는 클래스입니다.
+ *  - 실제로 상태나 버전이 바뀐 경우만 기록
+ *  - 클러스터마다 최근 N건만 유지 (kubernetes.health.history-size)
+ * Related : ClusterServiceImpl
+ * </pre>
+ */
+@Component
+@RequiredArgsConstructor
+public class ClusterStatusHistory {
+
+	private final KubernetesProperties kubernetesProperties;
+
+	private final Map<String, Deque<ClusterStatusHistoryDto>> histories = new ConcurrentHashMap<>();
+
+	/**
+	 * 상태 변경 이력을 추가합니다. 보관 개수를 넘으면 가장 오래된 이력을 버립니다.
+	 *
+	 * @param change 상태 변경 이력
+	 */
+	public void record(ClusterStatusHistoryDto change) {
+		Deque<ClusterStatusHistoryDto> history =
+			histories.computeIfAbsent(change.getClusterName(), id -> new ArrayDeque<>());
+		synchronized (history) {
+			history.addFirst(change);
+			while (history.size() > kubernetesProperties.getHealth().getHistorySize()) {
+				history.removeLast();
+			}
+		}
+	}
+
+	/**
+	 * 클러스터의 상태 변경 이력을 최근 순으로 반환합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 * @return 상태 변경 이력
+	 */
+	public List<ClusterStatusHistoryDto> get(String clusterId) {
+		Deque<ClusterStatusHistoryDto> history = histories.get(clusterId);
+		if (history == null) {
+			return Collections.emptyList();
+		}
+		synchronized (history) {
+			return new ArrayList<>(history);
+		}
+	}
+
+	/**
+	 * 클러스터의 상태 변경 이력을 삭제합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 */
+	public void remove(String clusterId) {
+		histories.remove(clusterId);
+	}
+}
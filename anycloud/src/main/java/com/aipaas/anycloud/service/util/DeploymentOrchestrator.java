@@ -29,6 +29,7 @@ import java.util.concurrent.Executors;
 public class DeploymentOrchestrator {
 
     private final HelmCommandExecutor helmCommandExecutor;
+    private final HelmRepositoryManager helmRepositoryManager;
     
     // 비동기 처리를 위한 ExecutorService
     private final ExecutorService executorService = Executors.newFixedThreadPool(5);
@@ -78,7 +79,8 @@ public class DeploymentOrchestrator {
                 // Helm CLI를 사용하여 차트 배포 (kubeconfig 사용)
                 String command = helmCommandExecutor.buildHelmInstallCommand(repository, chartName, releaseName, 
                         namespace, version, valuesFile, kubeconfigPath);
-                helmCommandExecutor.executeHelmCommand(command, kubeconfigPath);
+                helmCommandExecutor.executeHelmCommand(command, kubeconfigPath,
+                        helmRepositoryManager.environment(repository));
 
                 log.info("Successfully deployed chart: {}/{} as release: {} to cluster: {}",
                         repository.getName(), chartName, releaseName, clusterId);
@@ -31,6 +31,14 @@ public class HelmCommandExecutor {
      * kubeconfig를 사용하여 Helm 명령어를 실행합니다.
      */
     public String executeHelmCommand(String command, String kubeconfigPath) throws IOException, InterruptedException {
+        return executeHelmCommand(command, kubeconfigPath, Map.of());
+    }
+
+    /**
+     * kubeconfig와 추가 환경변수(HELM_REPOSITORY_CONFIG 등)를 사용하여 Helm 명령어를 실행합니다.
+     */
+    public String executeHelmCommand(String command, String kubeconfigPath, Map<String, String> extraEnvironment)
+            throws IOException, InterruptedException {
         log.debug("Executing helm command: {}", command);
 
         ProcessBuilder processBuilder = new ProcessBuilder();
@@ -39,6 +47,7 @@ public class HelmCommandExecutor {
 
         // kubeconfig 환경변수 설정
         Map<String, String> environment = processBuilder.environment();
+        environment.putAll(extraEnvironment);
         environment.put("KUBECONFIG", kubeconfigPath);
 
         Process process = processBuilder.start();
@@ -99,11 +108,20 @@ public class HelmCommandExecutor {
      * kubeconfig 없이 Helm 명령어를 실행합니다.
      */
     public String executeHelmCommandWithoutKubeconfig(String command) throws IOException, InterruptedException {
+        return executeHelmCommandWithoutKubeconfig(command, Map.of());
+    }
+
+    /**
+     * kubeconfig 없이 추가 환경변수(HELM_REPOSITORY_CONFIG 등)를 사용하여 Helm 명령어를 실행합니다.
+     */
+    public String executeHelmCommandWithoutKubeconfig(String command, Map<String, String> extraEnvironment)
+            throws IOException, InterruptedException {
         log.debug("Executing helm command (without kubeconfig): {}", command);
 
         ProcessBuilder processBuilder = new ProcessBuilder();
         processBuilder.command("sh", "-c", command);
         processBuilder.redirectErrorStream(true);
+        processBuilder.environment().putAll(extraEnvironment);
 
         Process process = processBuilder.start();
 
@@ -132,14 +150,10 @@ public class HelmCommandExecutor {
 
     /**
      * Helm show 명령어를 빌드합니다.
+     * 저장소는 HelmRepositoryManager가 준비하므로 해당 환경변수로 실행해야 합니다.
      */
     public String buildHelmShowCommand(String showType, HelmRepoEntity repository, String chartName, String version) {
         StringBuilder command = new StringBuilder();
-        
-        // 먼저 repository를 추가
-        String repoAddCommand = buildHelmRepoAddCommand(repository);
-        command.append(repoAddCommand).append(" && ");
-        
         command.append("helm show ").append(showType).append(" ")
                 .append(repository.getName()).append("/").append(chartName);
         
@@ -150,58 +164,13 @@ public class HelmCommandExecutor {
         return command.toString();
     }
 
-    /**
-     * Helm repository add 명령어를 빌드합니다.
-     * 이미 추가된 저장소인 경우 건너뛰는 로직이 포함됩니다.
-     */
-    public String buildHelmRepoAddCommand(HelmRepoEntity repository) {
-        StringBuilder command = new StringBuilder();
-        
-        // 먼저 저장소가 이미 존재하는지 확인하고, 없을 때만 추가
-        command.append("(helm repo list | grep -q '^")
-                .append(repository.getName())
-                .append("\\s' && echo 'Repository ")
-                .append(repository.getName())
-                .append(" already exists, skipping...') || (");
-        
-        // 실제 helm repo add 명령어
-        command.append("helm repo add ")
-                .append(repository.getName())
-                .append(" ")
-                .append(repository.getUrl());
-
-        // 인증 정보가 있으면 추가
-        if (repository.getUsername() != null && !repository.getUsername().trim().isEmpty()) {
-            command.append(" --username ").append(repository.getUsername());
-        }
-
-        if (repository.getPassword() != null && !repository.getPassword().trim().isEmpty()) {
-            command.append(" --password ").append(repository.getPassword());
-        }
-
-        // TLS 검증 생략 처리
-        if (repository.getInsecureSkipTlsVerify() != null && repository.getInsecureSkipTlsVerify()) {
-            command.append(" --insecure-skip-tls-verify");
-            log.debug("Added insecure-skip-tls-verify for repository: {}", repository.getName());
-        }
-        
-        // 괄호 닫기
-        command.append(")");
-
-        log.debug("Built helm repo add command with duplicate check for repository: {}", repository.getName());
-        return command.toString();
-    }
-
     /**
      * Helm install 명령어를 빌드합니다.
+     * 저장소는 HelmRepositoryManager가 준비하므로 해당 환경변수로 실행해야 합니다.
      */
     public String buildHelmInstallCommand(HelmRepoEntity repository, String chartName, String releaseName,
             String namespace, String version, MultipartFile valuesFile, String kubeconfigPath) {
-        // 먼저 repository를 추가
-        String repoAddCommand = buildHelmRepoAddCommand(repository);
-
         StringBuilder command = new StringBuilder();
-        command.append(repoAddCommand).append(" && ");
         command.append("helm install ")
                 .append(releaseName)
                 .append(" ")
@@ -0,0 +1,178 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.error.exception.HelmChartNotFoundException;
+import com.aipaas.anycloud.model.entity.HelmRepoEntity;
+import com.aipaas.anycloud.util.HelmProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <pre>
+ * ClassName : HelmIndexCache
+ * Type : class
+ * Description : Helm 저장소의 index.yaml을 차트 카탈로그로 변환한 결과를 저장소별로 보관하는 캐시 클래스입니다.
+ *  - 응답 본문을 메모리에 모으지 않고 스트림에서 바로 카탈로그로 변환
+ *  - 차트 목록 조회와 차트 상세 조회가 같은 캐시를 사용
+ *  - TTL이 지나면 ETag/Last-Modified로 조건부 요청을 보내고, 304 응답이면 다운로드/파싱 없이 기존 결과를 재사용
+ *  - 같은 저장소에 대한 동시 갱신은 한 번만 수행하고 나머지 요청은 그 결과를 사용
+ *  - 갱신에 실패하면 이전 결과를 다음 주기까지 계속 사용
+ * Related : ChartServiceImpl, ChartParser, ChartCatalog
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HelmIndexCache {
+
+    private final RestTemplate restTemplate;
+    private final ChartParser chartParser;
+    private final HelmProperties helmProperties;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 저장소의 index를 반환합니다. 캐시 유지 시간이 지났으면 변경 여부를 확인한 뒤 반환합니다.
+     *
+     * @param repository Helm 저장소 엔티티
+     * @return 차트 카탈로그
+     */
+    public ChartCatalog get(HelmRepoEntity repository) {
+        Entry entry = entries.computeIfAbsent(repository.getId(), id -> new Entry());
+        return entry.get(repository, helmProperties.getIndex().getTtl()).catalog();
+    }
+
+    /**
+     * 저장소의 index를 캐시에서 제거합니다.
+     *
+     * @param repositoryId 저장소 ID
+     */
+    public void invalidate(String repositoryId) {
+        entries.remove(repositoryId);
+    }
+
+    /**
+     * index.yaml을 조회합니다. 이전 결과가 있으면 조건부 요청을 보냅니다.
+     */
+    private Index fetch(HelmRepoEntity repository, Index previous) {
+        String indexUrl = repository.getUrl().endsWith("/") ? repository.getUrl() + "index.yaml"
+                : repository.getUrl() + "/index.yaml";
+        long started = System.currentTimeMillis();
+
+        HttpHeaders headers = createAuthHeaders(repository);
+        if (previous != null) {
+            if (previous.etag() != null) {
+                headers.setIfNoneMatch(previous.etag());
+            }
+            if (previous.lastModified() != null) {
+                // 서버가 보낸 값을 그대로 돌려보내야 서버 시계와 관계없이 비교됨
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+            }
+        }
+
+        return restTemplate.execute(indexUrl, HttpMethod.GET, request -> request.getHeaders().putAll(headers),
+                response -> {
+                    if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && previous != null) {
+                        log.debug("index.yaml of repository {} not modified", repository.getName());
+                        return previous.touch();
+                    }
+                    if (!response.getStatusCode().isSameCodeAs(HttpStatus.OK)) {
+                        throw new HelmChartNotFoundException(
+                                "Unable to fetch index.yaml from repository: " + repository.getName() +
+                                        " (HTTP " + response.getStatusCode() + ")");
+                    }
+
+                    ChartCatalog catalog = chartParser.readCatalog(repository.getName(), response.getBody());
+                    log.info("Fetched index.yaml of repository {} ({} charts, {} versions) in {} ms",
+                            repository.getName(), catalog.size(), catalog.versionCount(),
+                            System.currentTimeMillis() - started);
+                    return new Index(source(repository), catalog, response.getHeaders().getETag(),
+                            response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), System.currentTimeMillis());
+                });
+    }
+
+    private static HttpHeaders createAuthHeaders(HelmRepoEntity repository) {
+        HttpHeaders headers = new HttpHeaders();
+
+        if (repository.getUsername() != null && repository.getPassword() != null) {
+            String auth = repository.getUsername() + ":" + repository.getPassword();
+            String encodedAuth = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+            headers.set("Authorization", "Basic " + encodedAuth);
+        }
+
+        return headers;
+    }
+
+    /**
+     * 저장소 URL이나 인증 정보가 바뀌면 이전 결과를 사용하지 않도록 구분하는 값입니다.
+     */
+    private static String source(HelmRepoEntity repository) {
+        return repository.getUrl() + "|" + repository.getUsername() + "|" + Objects.hashCode(repository.getPassword());
+    }
+
+    /**
+     * 한 번 조회한 index와 조건부 요청에 사용할 검증 값입니다.
+     */
+    private record Index(String source, ChartCatalog catalog, String etag, String lastModified, long fetchedAt) {
+
+        private long age() {
+            return System.currentTimeMillis() - fetchedAt;
+        }
+
+        private Index touch() {
+            return new Index(source, catalog, etag, lastModified, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 저장소 하나의 index와 갱신 락입니다.
+     */
+    private final class Entry {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile Index index;
+
+        /**
+         * maxAge보다 오래된 결과면 다시 확인합니다. 다른 요청이 확인 중이면 그 결과를 기다려 사용합니다.
+         */
+        private Index get(HelmRepoEntity repository, long maxAge) {
+            String source = source(repository);
+            Index current = index;
+            if (current != null && current.source().equals(source) && current.age() < maxAge) {
+                return current;
+            }
+            lock.lock();
+            try {
+                // 락을 기다리는 동안 다른 요청이 갱신했으면 그 결과를 사용
+                if (index != null && index.source().equals(source) && (index != current || index.age() < maxAge)) {
+                    return index;
+                }
+                Index previous = index != null && index.source().equals(source) ? index : null;
+                try {
+                    index = fetch(repository, previous);
+                } catch (RuntimeException e) {
+                    if (previous == null) {
+                        throw e;
+                    }
+                    log.warn("Failed to refresh index.yaml of repository {}, using previous result: {}",
+                            repository.getName(), e.getMessage());
+                    index = previous.touch();
+                }
+                return index;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -4,20 +4,22 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import org.springframework.stereotype.Component;
-import com.aipaas.anycloud.configuration.bean.KubernetesClientConfig;
 import com.aipaas.anycloud.model.entity.ClusterEntity;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class HelmReleaseScanner {
 
+  private final KubernetesClientRegistry kubernetesClientRegistry;
+
   public List<HasMetadata> scanReleaseResources(ClusterEntity cluster, String namespace, String releaseName) {
 
-    KubernetesClientConfig manager = new KubernetesClientConfig(cluster);
-    KubernetesClient client = manager.getClient();
+    KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
     List<HasMetadata> results = new ArrayList<>();
 
     // Helm이 기본적으로 생성할 가능성이 높은 리소스 타입들
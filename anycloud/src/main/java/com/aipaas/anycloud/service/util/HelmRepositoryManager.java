@@ -0,0 +1,377 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.error.exception.HelmDeploymentException;
+import com.aipaas.anycloud.model.entity.HelmRepoEntity;
+import com.aipaas.anycloud.repository.HelmRepoRepository;
+import com.aipaas.anycloud.util.HelmProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * ClassName : HelmRepositoryManager
+ * Type : class
+ * Description : Helm 저장소 등록 상태를 저장소별 디렉터리로 관리하는 클래스입니다.
+ *  - 저장소마다 HELM_REPOSITORY_CONFIG, HELM_REPOSITORY_CACHE 디렉터리를 따로 사용
+ *  - helm repo add는 저장소 생성 시, 애플리케이션 시작 시, 또는 접속 정보가 바뀐 뒤 처음 사용할 때 한 번만 수행
+ *  - index는 일정 주기로 helm repo update로 갱신하고, 삭제된 저장소의 디렉터리는 정리
+ *  - helm show/install 명령은 environment()가 반환한 환경 변수로 실행하여 저장소 준비 비용을 매번 치르지 않음
+ * Related : HelmCommandExecutor, HelmRepoServiceImpl, ChartServiceImpl
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HelmRepositoryManager {
+
+    private static final String REPOSITORY_CONFIG = "repositories.yaml";
+    private static final String REPOSITORY_CACHE = "cache";
+    private static final String CA_FILE = "ca.crt";
+    private static final String FINGERPRINT_FILE = ".fingerprint";
+
+    private final HelmRepoRepository helmRepoRepository;
+    private final HelmProperties helmProperties;
+
+    // 저장소 ID별 마지막으로 등록한 접속 정보 해시
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+    // 저장소 ID별 락. 삭제 후에도 제거하지 않음 (제거하면 이전 락을 기다리던 스레드와 새 락을 얻은 스레드가 동시에 실행됨)
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 시작 시 등록된 저장소를 모두 준비합니다. 저장소 응답이 느려도 기동이 늦어지지 않도록 별도 스레드에서 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        Thread.ofVirtual().name("helm-repository-init").start(() -> sync(false));
+    }
+
+    /**
+     * 등록된 저장소의 index를 주기적으로 갱신합니다.
+     */
+    @Scheduled(initialDelayString = "${helm.repository.refresh-interval:1800000}",
+            fixedDelayString = "${helm.repository.refresh-interval:1800000}")
+    public void refreshAll() {
+        sync(true);
+    }
+
+    /**
+     * 저장소를 사용하는 helm 명령에 설정할 환경 변수를 반환합니다. 저장소가 준비되지 않았으면 먼저 등록합니다.
+     *
+     * @param repository Helm 저장소 엔티티
+     * @return HELM_REPOSITORY_CONFIG, HELM_REPOSITORY_CACHE 환경 변수
+     */
+    public Map<String, String> environment(HelmRepoEntity repository) {
+        Path dir = ensure(repository);
+        return Map.of(
+                "HELM_REPOSITORY_CONFIG", dir.resolve(REPOSITORY_CONFIG).toString(),
+                "HELM_REPOSITORY_CACHE", dir.resolve(REPOSITORY_CACHE).toString());
+    }
+
+    /**
+     * 저장소를 등록합니다 (helm repo add). 이미 같은 접속 정보로 등록되어 있으면 아무것도 하지 않습니다.
+     *
+     * @param repository Helm 저장소 엔티티
+     */
+    public void add(HelmRepoEntity repository) {
+        ensure(repository);
+    }
+
+    /**
+     * 요청 처리(트랜잭션)를 붙잡지 않도록 별도 스레드에서 저장소를 등록합니다.
+     * 실패하면 처음 사용할 때 다시 등록합니다.
+     *
+     * @param repository Helm 저장소 엔티티
+     */
+    public void addAsync(HelmRepoEntity repository) {
+        Runnable task = () -> Thread.ofVirtual().name("helm-repository-add").start(() -> {
+            try {
+                add(repository);
+            } catch (Exception e) {
+                log.warn("Failed to add helm repository {}, it will be added on first use: {}",
+                        repository.getName(), e.getMessage());
+            }
+        });
+        // 커밋 전에 디렉터리가 만들어지면 sync()의 orphan 정리가 DB에 없는 저장소로 보고 삭제할 수 있으므로 커밋 후에 등록
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * 저장소 index를 갱신합니다 (helm repo update).
+     *
+     * @param repository Helm 저장소 엔티티
+     */
+    public void update(HelmRepoEntity repository) {
+        Map<String, String> environment = environment(repository);
+        ReentrantLock lock = lock(repository.getId());
+        lock.lock();
+        try {
+            run(List.of("helm", "repo", "update", repository.getName()), environment, null);
+            log.debug("Updated helm repository index: {}", repository.getName());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장소 디렉터리를 삭제합니다.
+     *
+     * @param repository Helm 저장소 엔티티
+     */
+    public void remove(HelmRepoEntity repository) {
+        remove(repository.getId());
+        log.info("Removed helm repository state: {}", repository.getName());
+    }
+
+    private void remove(String repositoryId) {
+        ReentrantLock lock = lock(repositoryId);
+        lock.lock();
+        try {
+            fingerprints.remove(repositoryId);
+            FileSystemUtils.deleteRecursively(directory(repositoryId));
+        } catch (IOException e) {
+            log.warn("Failed to delete helm repository directory for {}: {}", repositoryId, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB에 등록된 저장소를 모두 준비하고, 더 이상 없는 저장소의 디렉터리를 정리합니다.
+     */
+    private void sync(boolean refresh) {
+        long started = System.currentTimeMillis();
+        List<HelmRepoEntity> repositories;
+        try {
+            repositories = helmRepoRepository.findAll();
+        } catch (Exception e) {
+            log.warn("Failed to load helm repositories: {}", e.getMessage());
+            return;
+        }
+
+        for (HelmRepoEntity repository : repositories) {
+            try {
+                if (refresh) {
+                    update(repository);
+                } else {
+                    add(repository);
+                }
+            } catch (Exception e) {
+                log.warn("Failed to {} helm repository {}: {}", refresh ? "refresh" : "add",
+                        repository.getName(), e.getMessage());
+            }
+        }
+
+        // 다른 인스턴스에서 삭제된 저장소의 디렉터리 정리
+        Set<String> ids = repositories.stream().map(HelmRepoEntity::getId).collect(Collectors.toSet());
+        Path baseDir = Paths.get(helmProperties.getRepository().getBaseDir());
+        if (!Files.isDirectory(baseDir)) {
+            return;
+        }
+        List<String> orphans = new ArrayList<>();
+        try (Stream<Path> dirs = Files.list(baseDir)) {
+            // 목록 조회 이후에 생성된 저장소의 디렉터리는 ids에 없으므로, 정리를 시작한 뒤 변경된 디렉터리는 건너뜀
+            dirs.filter(dir -> !ids.contains(dir.getFileName().toString()))
+                    .filter(dir -> lastModified(dir) < started)
+                    .map(dir -> dir.getFileName().toString())
+                    .forEach(orphans::add);
+        } catch (IOException e) {
+            log.warn("Failed to list helm repository directories: {}", e.getMessage());
+        }
+        orphans.forEach(this::remove);
+    }
+
+    /**
+     * 저장소 디렉터리를 준비합니다. 접속 정보가 바뀌었거나 등록된 적이 없으면 helm repo add를 수행합니다.
+     */
+    private Path ensure(HelmRepoEntity repository) {
+        Path dir = directory(repository.getId());
+        String fingerprint = fingerprint(repository);
+        if (fingerprint.equals(fingerprints.get(repository.getId()))) {
+            return dir;
+        }
+
+        ReentrantLock lock = lock(repository.getId());
+        lock.lock();
+        try {
+            // 재시작 후에는 디스크에 남아 있는 등록 정보를 재사용
+            if (fingerprint.equals(fingerprints.get(repository.getId())) || fingerprint.equals(readFingerprint(dir))) {
+                fingerprints.put(repository.getId(), fingerprint);
+                return dir;
+            }
+
+            Files.createDirectories(dir.resolve(REPOSITORY_CACHE));
+            Map<String, String> environment = Map.of(
+                    "HELM_REPOSITORY_CONFIG", dir.resolve(REPOSITORY_CONFIG).toString(),
+                    "HELM_REPOSITORY_CACHE", dir.resolve(REPOSITORY_CACHE).toString());
+
+            List<String> command = new ArrayList<>(List.of(
+                    "helm", "repo", "add", repository.getName(), repository.getUrl(), "--force-update"));
+            String password = null;
+            if (hasText(repository.getUsername())) {
+                command.add("--username");
+                command.add(repository.getUsername());
+            }
+            if (hasText(repository.getPassword())) {
+                // 프로세스 목록에 노출되지 않도록 표준 입력으로 전달
+                command.add("--password-stdin");
+                password = repository.getPassword();
+            }
+            if (hasText(repository.getCaFile())) {
+                Path caFile = dir.resolve(CA_FILE);
+                Files.writeString(caFile, repository.getCaFile());
+                command.add("--ca-file");
+                command.add(caFile.toString());
+            }
+            if (Boolean.TRUE.equals(repository.getInsecureSkipTlsVerify())) {
+                command.add("--insecure-skip-tls-verify");
+            }
+
+            run(command, environment, password);
+            Files.writeString(dir.resolve(FINGERPRINT_FILE), fingerprint);
+            fingerprints.put(repository.getId(), fingerprint);
+            log.info("Added helm repository {} ({}) to {}", repository.getName(), repository.getUrl(), dir);
+            return dir;
+        } catch (IOException e) {
+            throw new HelmDeploymentException(
+                    "Failed to prepare helm repository '" + repository.getName() + "': " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 셸을 거치지 않고 helm 명령을 실행합니다.
+     */
+    private void run(List<String> command, Map<String, String> environment, String stdin) {
+        long timeout = helmProperties.getRepository().getCommandTimeout();
+        ProcessBuilder processBuilder = new ProcessBuilder(command);
+        processBuilder.redirectErrorStream(true);
+        processBuilder.environment().putAll(environment);
+
+        Process process;
+        try {
+            process = processBuilder.start();
+        } catch (IOException e) {
+            throw new HelmDeploymentException("Failed to start helm command: " + e.getMessage());
+        }
+
+        // 출력이 멈춘 명령도 제한 시간에 종료할 수 있도록 출력은 별도 스레드에서 읽음
+        CompletableFuture<String> output = CompletableFuture.supplyAsync(() -> read(process.getInputStream()),
+                runnable -> Thread.ofVirtual().start(runnable));
+        try {
+            try (OutputStream in = process.getOutputStream()) {
+                if (stdin != null) {
+                    in.write((stdin + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            if (!process.waitFor(timeout, TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+                throw new HelmDeploymentException(
+                        "Helm repository command timed out after " + timeout + " ms: " + String.join(" ", command.subList(0, 4)));
+            }
+            if (process.exitValue() != 0) {
+                throw new HelmDeploymentException(
+                        "Helm repository command failed with exit code " + process.exitValue() + ": " + output.join());
+            }
+        } catch (IOException e) {
+            process.destroyForcibly();
+            throw new HelmDeploymentException("Failed to run helm command: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new HelmDeploymentException("Helm repository command interrupted");
+        }
+    }
+
+    private static String read(InputStream in) {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static long lastModified(Path dir) {
+        try {
+            return Files.getLastModifiedTime(dir).toMillis();
+        } catch (IOException e) {
+            // 확인할 수 없으면 삭제하지 않음
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private Path directory(String repositoryId) {
+        return Paths.get(helmProperties.getRepository().getBaseDir(), repositoryId);
+    }
+
+    private ReentrantLock lock(String repositoryId) {
+        return locks.computeIfAbsent(repositoryId, id -> new ReentrantLock());
+    }
+
+    private static String readFingerprint(Path dir) {
+        Path file = dir.resolve(FINGERPRINT_FILE);
+        try {
+            return Files.isRegularFile(file) && Files.isRegularFile(dir.resolve(REPOSITORY_CONFIG))
+                    ? Files.readString(file) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 접속 정보가 바뀌었는지 확인하기 위한 해시입니다.
+     */
+    private static String fingerprint(HelmRepoEntity repository) {
+        String source = String.join("\n", repository.getName(), repository.getUrl(),
+                String.valueOf(repository.getUsername()), String.valueOf(repository.getPassword()),
+                String.valueOf(repository.getCaFile()), String.valueOf(repository.getInsecureSkipTlsVerify()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,246 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.configuration.bean.KubernetesClientConfig;
+import com.aipaas.anycloud.model.entity.ClusterEntity;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : KubernetesClientRegistry
+ * Type : class
+ * Description : 클러스터별 KubernetesClient를 재사용하기 위해 보관하는 레지스트리 클래스입니다.
+ *  - 클러스터 ID + 접속 정보 fingerprint 기준으로 클라이언트 1개를 유지
+ *  - 접속 정보가 바뀌면 기존 클라이언트를 닫고 새로 생성
+ *  - 일정 시간 사용되지 않은 클라이언트는 주기적으로 정리
+ * Related : KubernetesClientConfig, KubeServiceImpl, ClusterServiceImpl
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KubernetesClientRegistry {
+
+	private final KubernetesProperties kubernetesProperties;
+
+	private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+	private final List<Consumer<String>> closeListeners = new CopyOnWriteArrayList<>();
+
+	private final List<Consumer<String>> invalidateListeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * 클러스터 클라이언트가 닫힐 때 호출될 리스너를 등록합니다.
+	 * 클라이언트에 묶여 있는 informer 등 부가 자원을 함께 정리하기 위해 사용합니다.
+	 *
+	 * @param listener 닫힌 클라이언트의 클러스터 ID를 전달받는 리스너
+	 */
+	public void addCloseListener(Consumer<String> listener) {
+		closeListeners.add(listener);
+	}
+
+	/**
+	 * 클러스터 접속 정보가 바뀌거나 클러스터가 삭제될 때 호출될 리스너를 등록합니다.
+	 * 유휴 정리로 클라이언트만 닫히는 경우에는 호출되지 않으므로, 클라이언트와 무관하게 유지해야 하는 상태를 정리할 때 사용합니다.
+	 *
+	 * @param listener 클러스터 ID를 전달받는 리스너
+	 */
+	public void addInvalidateListener(Consumer<String> listener) {
+		invalidateListeners.add(listener);
+	}
+
+	/**
+	 * 클러스터에 대한 KubernetesClient를 반환합니다.
+	 * 반환된 클라이언트는 레지스트리가 관리하므로 호출하는 쪽에서 close 하면 안 됩니다.
+	 *
+	 * @param cluster 클러스터 엔티티
+	 * @return 재사용 가능한 KubernetesClient
+	 */
+	public KubernetesClient getClient(ClusterEntity cluster) {
+		String fingerprint = fingerprint(cluster);
+
+		while (true) {
+			// compute에서는 교체 여부만 결정하고, 클라이언트 생성/종료와 리스너 호출은 map lock 밖에서 수행
+			PooledClient[] replaced = new PooledClient[1];
+			PooledClient pooled = clients.compute(cluster.getId(), (clusterId, existing) -> {
+				if (existing != null && existing.fingerprint.equals(fingerprint)) {
+					return existing;
+				}
+				replaced[0] = existing;
+				return new PooledClient(fingerprint, cluster);
+			});
+
+			if (replaced[0] != null) {
+				log.info("Connection info changed, rebuilding Kubernetes client for cluster: {}", cluster.getId());
+				close(cluster.getId(), replaced[0]);
+				notify(invalidateListeners, cluster.getId());
+			}
+
+			KubernetesClient client = pooled.client();
+			if (client != null) {
+				pooled.touch();
+				return client;
+			}
+			// 생성 전에 정리(교체/유휴 정리)된 항목이면 다시 조회
+		}
+	}
+
+	/**
+	 * 클라이언트의 마지막 사용 시각을 갱신하여 유휴 정리 대상에서 제외합니다.
+	 * REST 호출 없이 watch 연결만 유지하는 클라이언트를 위해 사용합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 */
+	public void touch(String clusterId) {
+		PooledClient pooled = clients.get(clusterId);
+		if (pooled != null) {
+			pooled.touch();
+		}
+	}
+
+	/**
+	 * 클러스터의 클라이언트를 닫고 레지스트리에서 제거합니다.
+	 * 클러스터 접속 정보가 수정되거나 클러스터가 삭제될 때 호출합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 */
+	public void invalidate(String clusterId) {
+		PooledClient removed = clients.remove(clusterId);
+		if (removed != null) {
+			log.info("Closing Kubernetes client for cluster: {}", clusterId);
+			close(clusterId, removed);
+		}
+		// 유휴 정리로 클라이언트가 이미 닫혔어도 클러스터 상태는 정리해야 하므로 항상 호출
+		notify(invalidateListeners, clusterId);
+	}
+
+	/**
+	 * 일정 시간 이상 사용되지 않은 클라이언트를 정리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${kubernetes.client.evict-interval:60000}")
+	public void evictIdleClients() {
+		long threshold = System.currentTimeMillis() - kubernetesProperties.getClient().getIdleTimeout();
+
+		clients.forEach((clusterId, pooled) -> {
+			if (pooled.lastAccess >= threshold) {
+				return;
+			}
+			boolean[] evicted = new boolean[1];
+			clients.computeIfPresent(clusterId, (id, current) -> {
+				if (current == pooled && current.lastAccess < threshold) {
+					evicted[0] = true;
+					return null;
+				}
+				return current;
+			});
+			if (evicted[0]) {
+				log.info("Evicting idle Kubernetes client for cluster: {}", clusterId);
+				close(clusterId, pooled);
+			}
+		});
+	}
+
+	@PreDestroy
+	public void closeAll() {
+		clients.keySet().forEach(this::invalidate);
+	}
+
+	private void close(String clusterId, PooledClient pooled) {
+		notify(closeListeners, clusterId);
+		pooled.close();
+	}
+
+	private static void notify(List<Consumer<String>> listeners, String clusterId) {
+		for (Consumer<String> listener : listeners) {
+			try {
+				listener.accept(clusterId);
+			} catch (Exception e) {
+				log.warn("Client listener failed for cluster {}: {}", clusterId, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 클라이언트 생성에 사용되는 접속 정보로 fingerprint를 계산합니다.
+	 */
+	private static String fingerprint(ClusterEntity cluster) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			for (String value : new String[]{cluster.getApiServerUrl(), cluster.getServerCa(),
+					cluster.getClientCa(), cluster.getClientKey(), cluster.getClientToken()}) {
+				if (value != null) {
+					digest.update(value.getBytes(StandardCharsets.UTF_8));
+				}
+				digest.update((byte) 0);
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	 * 레지스트리에 보관되는 클라이언트입니다.
+	 * 실제 클라이언트는 map 밖에서 처음 사용할 때 한 번만 생성합니다.
+	 */
+	private static final class PooledClient {
+
+		private final String fingerprint;
+		private final ClusterEntity cluster;
+		private KubernetesClientConfig manager;
+		private boolean closed;
+		private volatile long lastAccess = System.currentTimeMillis();
+
+		private PooledClient(String fingerprint, ClusterEntity cluster) {
+			this.fingerprint = fingerprint;
+			this.cluster = cluster;
+		}
+
+		private void touch() {
+			lastAccess = System.currentTimeMillis();
+		}
+
+		/**
+		 * 클라이언트를 반환합니다. 이미 정리된 항목이면 null을 반환합니다.
+		 */
+		private synchronized KubernetesClient client() {
+			if (closed) {
+				return null;
+			}
+			if (manager == null) {
+				manager = new KubernetesClientConfig(cluster);
+			}
+			return manager.getClient();
+		}
+
+		private void close() {
+			KubernetesClientConfig current;
+			synchronized (this) {
+				closed = true;
+				current = manager;
+			}
+			if (current == null) {
+				return;
+			}
+			try {
+				current.closeClient();
+			} catch (Exception e) {
+				log.warn("Failed to close Kubernetes client: {}", e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,224 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.model.entity.ClusterEntity;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import io.fabric8.kubernetes.api.model.APIGroup;
+import io.fabric8.kubernetes.api.model.APIGroupList;
+import io.fabric8.kubernetes.api.model.APIResource;
+import io.fabric8.kubernetes.api.model.APIResourceList;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : KubernetesDiscoveryCache
+ * Type : class
+ * Description : 클러스터별 API discovery 결과를 보관하는 캐시 클래스입니다.
+ *  - 클러스터마다 한 번 discovery를 수행하고 TTL이 지나면 다시 조회
+ *  - kind, 복수형, 단수형, 축약 이름, "복수형.그룹"으로 GroupVersionResource를 바로 찾을 수 있도록 색인
+ *  - 같은 클러스터에 대한 동시 갱신은 한 번만 수행
+ *  - ResourceType enum에 없는 리소스(CRD 등)를 GenericKubernetesResource로 조회할 때 사용
+ * Related : KubeServiceImpl, KubernetesClientRegistry
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KubernetesDiscoveryCache {
+
+	private final KubernetesClientRegistry kubernetesClientRegistry;
+	private final KubernetesProperties kubernetesProperties;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		kubernetesClientRegistry.addCloseListener(entries::remove);
+	}
+
+	/**
+	 * 리소스 이름으로 API 리소스 정보를 찾습니다.
+	 *
+	 * @param cluster 클러스터 엔티티
+	 * @param kind    kind, 복수형, 단수형, 축약 이름 또는 "복수형.그룹" (대소문자 무시)
+	 * @return 리소스 정보 (클러스터에 없는 리소스면 empty)
+	 */
+	public Optional<ResourceDefinitionContext> resolve(ClusterEntity cluster, String kind) {
+		if (kind == null || kind.isBlank()) {
+			return Optional.empty();
+		}
+		String key = kind.trim().toLowerCase(Locale.ROOT);
+		Entry entry = entries.computeIfAbsent(cluster.getId(), id -> new Entry());
+		Discovery discovery = entry.get(cluster, kubernetesProperties.getDiscovery().getTtl());
+
+		ResourceDefinitionContext context = discovery.index.get(key);
+		// 새로 설치된 CRD일 수 있으므로, 마지막 조회 후 일정 시간이 지났으면 한 번 더 조회
+		if (context == null
+			&& discovery.age() >= kubernetesProperties.getDiscovery().getMissRefreshInterval()) {
+			discovery = entry.get(cluster, 0);
+			context = discovery.index.get(key);
+		}
+		return Optional.ofNullable(context);
+	}
+
+	/**
+	 * 클러스터의 discovery 결과를 제거합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 */
+	public void invalidate(String clusterId) {
+		entries.remove(clusterId);
+	}
+
+	private Discovery discover(ClusterEntity cluster) {
+		KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+		long started = System.currentTimeMillis();
+
+		List<String> groupVersions = new ArrayList<>();
+		groupVersions.add("v1");
+		APIGroupList groups = client.getApiGroups();
+		if (groups != null && groups.getGroups() != null) {
+			for (APIGroup group : groups.getGroups()) {
+				if (group.getPreferredVersion() != null) {
+					groupVersions.add(group.getPreferredVersion().getGroupVersion());
+				}
+			}
+		}
+
+		// 그룹 버전별 조회는 가상 스레드에서 동시에 수행 (응답하지 않는 aggregated API는 건너뜀)
+		List<Future<APIResourceList>> futures = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (String groupVersion : groupVersions) {
+				futures.add(executor.submit(() -> client.getApiResources(groupVersion)));
+			}
+		}
+
+		Map<String, ResourceDefinitionContext> index = new HashMap<>();
+		for (int i = 0; i < futures.size(); i++) {
+			APIResourceList resources;
+			try {
+				resources = futures.get(i).get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (ExecutionException e) {
+				log.warn("Failed to discover {} in cluster [{}]: {}", groupVersions.get(i), cluster.getId(),
+					e.getCause().getMessage());
+				continue;
+			}
+			if (resources != null && resources.getResources() != null) {
+				addResources(index, groupVersions.get(i), resources.getResources());
+			}
+		}
+
+		log.info("Discovered {} API resource names in cluster [{}] in {} ms", index.size(), cluster.getId(),
+			System.currentTimeMillis() - started);
+		return new Discovery(Collections.unmodifiableMap(index), System.currentTimeMillis());
+	}
+
+	private static void addResources(Map<String, ResourceDefinitionContext> index, String groupVersion,
+		List<APIResource> resources) {
+		int slash = groupVersion.indexOf('/');
+		String group = slash < 0 ? "" : groupVersion.substring(0, slash);
+		String version = slash < 0 ? groupVersion : groupVersion.substring(slash + 1);
+
+		for (APIResource resource : resources) {
+			// pods/log 같은 하위 리소스는 제외
+			if (resource.getName() == null || resource.getName().contains("/")) {
+				continue;
+			}
+			ResourceDefinitionContext context = new ResourceDefinitionContext.Builder()
+				.withGroup(group)
+				.withVersion(version)
+				.withPlural(resource.getName())
+				.withKind(resource.getKind())
+				.withNamespaced(Boolean.TRUE.equals(resource.getNamespaced()))
+				.build();
+
+			// 이름이 겹치면 먼저 조회된 리소스(코어, 기본 그룹 순)를 우선
+			put(index, resource.getName(), context);
+			put(index, resource.getKind(), context);
+			put(index, resource.getSingularName(), context);
+			if (resource.getShortNames() != null) {
+				resource.getShortNames().forEach(shortName -> put(index, shortName, context));
+			}
+			if (!group.isEmpty()) {
+				index.put((resource.getName() + "." + group).toLowerCase(Locale.ROOT), context);
+			}
+		}
+	}
+
+	private static void put(Map<String, ResourceDefinitionContext> index, String name,
+		ResourceDefinitionContext context) {
+		if (name != null && !name.isEmpty()) {
+			index.putIfAbsent(name.toLowerCase(Locale.ROOT), context);
+		}
+	}
+
+	/**
+	 * 한 번의 discovery 결과입니다.
+	 */
+	private record Discovery(Map<String, ResourceDefinitionContext> index, long fetchedAt) {
+
+		private long age() {
+			return System.currentTimeMillis() - fetchedAt;
+		}
+	}
+
+	/**
+	 * 클러스터 하나의 discovery 결과와 갱신 락입니다.
+	 */
+	private final class Entry {
+
+		private final ReentrantLock lock = new ReentrantLock();
+		private volatile Discovery discovery;
+
+		/**
+		 * maxAge보다 오래된 결과면 다시 조회합니다. 다른 요청이 조회 중이면 그 결과를 기다려 사용합니다.
+		 */
+		private Discovery get(ClusterEntity cluster, long maxAge) {
+			Discovery current = discovery;
+			if (current != null && current.age() < maxAge) {
+				return current;
+			}
+			lock.lock();
+			try {
+				// 락을 기다리는 동안 다른 요청이 갱신했으면 그 결과를 사용
+				if (discovery != null && (discovery != current || discovery.age() < maxAge)) {
+					return discovery;
+				}
+				try {
+					discovery = discover(cluster);
+				} catch (Exception e) {
+					// 갱신에 실패하면 이전 결과를 다음 주기까지 계속 사용
+					if (discovery == null) {
+						throw e;
+					}
+					log.warn("Failed to refresh discovery for cluster [{}], using previous result: {}",
+						cluster.getId(), e.getMessage());
+					discovery = new Discovery(discovery.index(), System.currentTimeMillis());
+				}
+				return discovery;
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
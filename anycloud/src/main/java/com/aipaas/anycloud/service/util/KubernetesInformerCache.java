@@ -0,0 +1,267 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.model.dto.response.ResourceResultDto;
+import com.aipaas.anycloud.model.entity.ClusterEntity;
+import com.aipaas.anycloud.model.enums.ResourceType;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : KubernetesInformerCache
+ * Type : class
+ * Description : 자주 조회되는 리소스를 SharedInformer로 캐싱하여 목록/단건 조회를 메모리에서 처리하는 클래스입니다.
+ *  - kubernetes.informer.enabled=true 일 때만 동작
+ *  - 클러스터/리소스 종류별 informer를 첫 조회 시점에 시작하고, 동기화 전까지는 API 서버 조회로 대체
+ *  - 일정 시간 조회되지 않은 클러스터의 informer는 주기적으로 중지
+ * Related : KubernetesClientRegistry, KubeServiceImpl
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KubernetesInformerCache {
+
+	// informer로 캐싱하는 리소스 종류
+	private static final Set<ResourceType> CACHEABLE_TYPES = EnumSet.of(
+		ResourceType.POD,
+		ResourceType.DEPLOYMENT,
+		ResourceType.REPLICA_SET,
+		ResourceType.NODE,
+		ResourceType.SERVICE,
+		ResourceType.EVENT);
+
+	private final KubernetesClientRegistry kubernetesClientRegistry;
+	private final KubernetesProperties kubernetesProperties;
+
+	private final Map<String, ClusterInformers> clusters = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		kubernetesClientRegistry.addCloseListener(this::stop);
+	}
+
+	/**
+	 * 캐시에서 리소스 목록을 조회합니다.
+	 * 캐시를 사용할 수 없거나 informer가 아직 동기화되지 않은 경우 빈 값을 반환하며,
+	 * 호출하는 쪽에서 API 서버 조회로 대체해야 합니다.
+	 *
+	 * @param cluster   클러스터 엔티티
+	 * @param type      리소스 종류
+	 * @param namespace 네임스페이스 (null이면 전체 네임스페이스, 클러스터 범위 리소스는 무시)
+	 * @return 캐시 조회 결과
+	 */
+	public Optional<ResourceResultDto<List<? extends HasMetadata>>> list(ClusterEntity cluster,
+			ResourceType type, String namespace) {
+		return informerFor(cluster, type).map(cached -> {
+			List<? extends HasMetadata> items;
+			if (type.isNamespaced() && namespace != null) {
+				items = cached.informer.getIndexer().byIndex(Cache.NAMESPACE_INDEX, namespace);
+			} else {
+				items = cached.informer.getStore().list();
+			}
+			return cached.result(items);
+		});
+	}
+
+	/**
+	 * 캐시에서 리소스 단건을 조회합니다.
+	 *
+	 * @param cluster   클러스터 엔티티
+	 * @param type      리소스 종류
+	 * @param namespace 네임스페이스 (클러스터 범위 리소스는 무시)
+	 * @param name      리소스 이름
+	 * @return 캐시 조회 결과 (리소스가 없으면 data가 null)
+	 */
+	public Optional<ResourceResultDto<HasMetadata>> get(ClusterEntity cluster, ResourceType type,
+			String namespace, String name) {
+		return informerFor(cluster, type).map(cached -> {
+			String key = Cache.namespaceKeyFunc(type.isNamespaced() ? namespace : null, name);
+			HasMetadata item = cached.informer.getStore().getByKey(key);
+			return cached.result(item);
+		});
+	}
+
+	/**
+	 * 클러스터의 informer를 모두 중지합니다.
+	 *
+	 * @param clusterId 클러스터 ID
+	 */
+	public void stop(String clusterId) {
+		ClusterInformers removed = clusters.remove(clusterId);
+		if (removed != null) {
+			log.info("Stopping informers for cluster: {}", clusterId);
+			removed.stopAll();
+		}
+	}
+
+	/**
+	 * 일정 시간 이상 조회되지 않은 클러스터의 informer를 중지합니다.
+	 */
+	@Scheduled(fixedDelayString = "${kubernetes.informer.evict-interval:60000}")
+	public void evictIdleInformers() {
+		long threshold = System.currentTimeMillis() - kubernetesProperties.getInformer().getIdleTimeout();
+
+		clusters.forEach((clusterId, entry) -> {
+			if (entry.lastAccess >= threshold) {
+				return;
+			}
+			clusters.computeIfPresent(clusterId, (id, current) -> {
+				if (current == entry && current.lastAccess < threshold) {
+					log.info("Stopping idle informers for cluster: {}", id);
+					current.stopAll();
+					return null;
+				}
+				return current;
+			});
+		});
+	}
+
+	@PreDestroy
+	public void stopAll() {
+		clusters.keySet().forEach(this::stop);
+	}
+
+	/**
+	 * 동기화가 완료된 informer를 반환합니다. 아직 시작되지 않았다면 비동기로 시작합니다.
+	 */
+	private Optional<CachedInformer> informerFor(ClusterEntity cluster, ResourceType type) {
+		if (!kubernetesProperties.getInformer().isEnabled() || !CACHEABLE_TYPES.contains(type)) {
+			return Optional.empty();
+		}
+
+		// 레지스트리에서 클라이언트를 받아 사용 시각을 갱신하고, 클라이언트가 교체된 경우 informer를 새로 만든다
+		KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+		ClusterInformers entry = clusters.compute(cluster.getId(), (clusterId, existing) -> {
+			if (existing != null && existing.client == client) {
+				return existing;
+			}
+			if (existing != null) {
+				existing.stopAll();
+			}
+			return new ClusterInformers(clusterId, client);
+		});
+		entry.lastAccess = System.currentTimeMillis();
+
+		CachedInformer cached = entry.informers.computeIfAbsent(type, key -> create(entry, key));
+		if (cached.started.compareAndSet(false, true)) {
+			start(entry, type, cached);
+		}
+		if (!cached.informer.hasSynced()) {
+			return Optional.empty();
+		}
+		return Optional.of(cached);
+	}
+
+	private CachedInformer create(ClusterInformers entry, ResourceType type) {
+		SharedIndexInformer<? extends HasMetadata> informer = type.runnableInformer(entry.client, null,
+			kubernetesProperties.getInformer().getResyncPeriod());
+
+		CachedInformer cached = new CachedInformer(informer);
+		informer.addEventHandler(cached);
+		return cached;
+	}
+
+	private void start(ClusterInformers entry, ResourceType type, CachedInformer cached) {
+		SharedIndexInformer<? extends HasMetadata> informer = cached.informer;
+		log.info("Starting {} informer for cluster: {}", type.getKind(), entry.clusterId);
+		informer.start().whenComplete((ignored, e) -> {
+			if (e != null) {
+				log.warn("Failed to start {} informer for cluster {}: {}", type.getKind(),
+					entry.clusterId, e.getMessage());
+				informer.stop();
+				entry.informers.remove(type, cached);
+			} else {
+				cached.touch();
+				log.info("{} informer synced for cluster: {}", type.getKind(), entry.clusterId);
+			}
+		});
+	}
+
+	private static final class ClusterInformers {
+
+		private final String clusterId;
+		private final KubernetesClient client;
+		private final Map<ResourceType, CachedInformer> informers = new ConcurrentHashMap<>();
+		private volatile long lastAccess = System.currentTimeMillis();
+
+		private ClusterInformers(String clusterId, KubernetesClient client) {
+			this.clusterId = clusterId;
+			this.client = client;
+		}
+
+		private void stopAll() {
+			informers.values().forEach(cached -> {
+				try {
+					cached.informer.stop();
+				} catch (Exception e) {
+					log.warn("Failed to stop informer for cluster {}: {}", clusterId, e.getMessage());
+				}
+			});
+			informers.clear();
+		}
+	}
+
+	/**
+	 * informer와 마지막으로 최신 상태가 확인된 시각을 함께 보관합니다.
+	 * watch 이벤트를 받거나 조회 시점에 watch가 살아 있으면 최신 상태로 간주합니다.
+	 */
+	private static final class CachedInformer implements ResourceEventHandler<HasMetadata> {
+
+		private final SharedIndexInformer<? extends HasMetadata> informer;
+		private final AtomicBoolean started = new AtomicBoolean();
+		private volatile long freshAt = System.currentTimeMillis();
+
+		private CachedInformer(SharedIndexInformer<? extends HasMetadata> informer) {
+			this.informer = informer;
+		}
+
+		private void touch() {
+			freshAt = System.currentTimeMillis();
+		}
+
+		private <T> ResourceResultDto<T> result(T data) {
+			if (informer.isWatching()) {
+				touch();
+			}
+			return ResourceResultDto.<T>builder()
+				.data(data)
+				.cached(true)
+				.stalenessMillis(System.currentTimeMillis() - freshAt)
+				.resourceVersion(informer.lastSyncResourceVersion())
+				.build();
+		}
+
+		@Override
+		public void onAdd(HasMetadata obj) {
+			touch();
+		}
+
+		@Override
+		public void onUpdate(HasMetadata oldObj, HasMetadata newObj) {
+			touch();
+		}
+
+		@Override
+		public void onDelete(HasMetadata obj, boolean deletedFinalStateUnknown) {
+			touch();
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.error.enums.ErrorCode;
+import com.aipaas.anycloud.error.exception.CustomException;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.http.HttpClient;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.HttpResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : KubernetesRawClient
+ * Type : class
+ * Description : fabric8 모델로 역직렬화하지 않고 API 서버 응답을 그대로 받기 위한 클래스입니다.
+ *  - 클러스터에 이미 설정된 KubernetesClient의 HttpClient(인증/TLS 포함)를 그대로 사용
+ *  - 응답 본문은 InputStream으로 반환하므로 호출하는 쪽에서 반드시 닫아야 합니다.
+ * Related : KubeServiceImpl
+ * </pre>
+ */
+@Slf4j
+@Component
+public class KubernetesRawClient {
+
+	// 오류 응답 본문에서 메시지로 사용할 최대 길이
+	private static final int MAX_ERROR_BODY_LENGTH = 1024;
+
+	// 네임스페이스 이름 규칙 (RFC 1123 label)
+	private static final Pattern DNS_LABEL = Pattern.compile("[a-z0-9]([-a-z0-9]{0,61}[a-z0-9])?");
+
+	// 리소스 이름 규칙 (RFC 1123 subdomain)
+	private static final Pattern DNS_SUBDOMAIN = Pattern.compile("[a-z0-9]([-a-z0-9]*[a-z0-9])?(\\.[a-z0-9]([-a-z0-9]*[a-z0-9])?)*");
+
+	// RFC 1123 subdomain 최대 길이
+	private static final int MAX_SUBDOMAIN_LENGTH = 253;
+
+	/**
+	 * API 서버에 GET 요청을 보내고 응답 본문 스트림을 반환합니다.
+	 *
+	 * @param client KubernetesClient
+	 * @param path   API 경로 (예: /api/v1/namespaces/default/pods)
+	 * @param query  쿼리 파라미터 (값이 null이면 제외)
+	 * @param accept Accept 헤더
+	 * @return 응답 (성공 응답만 반환)
+	 */
+	public HttpResponse<InputStream> get(KubernetesClient client, String path, Map<String, String> query,
+			String accept) {
+		return get(client, path, query, accept, 0);
+	}
+
+	/**
+	 * API 서버에 GET 요청을 보내고 응답 본문 스트림을 반환합니다.
+	 *
+	 * @param client        KubernetesClient
+	 * @param path          API 경로 (예: /api/v1/namespaces/default/pods)
+	 * @param query         쿼리 파라미터 (값이 null이면 제외)
+	 * @param accept        Accept 헤더
+	 * @param timeoutMillis 응답 헤더를 받을 때까지의 제한 시간 (ms, 0이면 클라이언트 설정을 따름)
+	 * @return 응답 (성공 응답만 반환)
+	 */
+	public HttpResponse<InputStream> get(KubernetesClient client, String path, Map<String, String> query,
+			String accept, long timeoutMillis) {
+		HttpClient httpClient = client.getHttpClient();
+		HttpRequest request = httpClient.newHttpRequestBuilder()
+			.uri(buildUrl(client.getMasterUrl().toString(), path, query))
+			.header("Accept", accept)
+			.build();
+
+		CompletableFuture<HttpResponse<InputStream>> future = httpClient.sendAsync(request, InputStream.class);
+		HttpResponse<InputStream> response;
+		try {
+			response = timeoutMillis > 0 ? future.get(timeoutMillis, TimeUnit.MILLISECONDS) : future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new CustomException(ErrorCode.CLUSTER_CONNECTION_FAILED);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			log.warn("API server did not respond within {} ms [{}]", timeoutMillis, path);
+			throw new CustomException("API 서버 응답 시간이 초과되었습니다.", ErrorCode.CLUSTER_CONNECTION_FAILED);
+		} catch (ExecutionException e) {
+			log.error("Failed to call API server [{}]: {}", path, e.getCause().getMessage());
+			throw new CustomException(e.getCause().getMessage(), ErrorCode.CLUSTER_CONNECTION_FAILED);
+		}
+
+		if (!response.isSuccessful()) {
+			String message = readError(response.body());
+			log.warn("API server returned {} for [{}]: {}", response.code(), path, message);
+			throw new CustomException(message, toErrorCode(response.code()));
+		}
+		return response;
+	}
+
+	/**
+	 * 리소스 클래스의 그룹/버전/복수형 이름으로 목록 조회 경로를 만듭니다.
+	 *
+	 * @param type      fabric8 리소스 클래스
+	 * @param namespace 네임스페이스 (null이면 전체 네임스페이스 또는 클러스터 범위)
+	 * @return API 경로
+	 * @throws CustomException 네임스페이스가 RFC 1123 label 형식이 아닌 경우
+	 */
+	public static String resourcePath(Class<? extends HasMetadata> type, String namespace) {
+		String group = HasMetadata.getGroup(type);
+		StringBuilder path = new StringBuilder();
+		if (group == null || group.isEmpty()) {
+			path.append("/api/").append(HasMetadata.getVersion(type));
+		} else {
+			path.append("/apis/").append(group).append('/').append(HasMetadata.getVersion(type));
+		}
+		if (namespace != null) {
+			// 경로에 그대로 붙이므로 '/', '?', '..' 등으로 다른 API 경로를 호출하지 않도록 검증
+			if (!DNS_LABEL.matcher(namespace).matches()) {
+				throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "namespace", namespace,
+					"namespace는 RFC 1123 label 형식이어야 합니다.");
+			}
+			path.append("/namespaces/").append(namespace);
+		}
+		return path.append('/').append(HasMetadata.getPlural(type)).toString();
+	}
+
+	/**
+	 * 단일 리소스의 하위 리소스(log 등) 경로를 만듭니다.
+	 *
+	 * @param type        fabric8 리소스 클래스
+	 * @param namespace   네임스페이스 (null이면 클러스터 범위)
+	 * @param name        리소스 이름
+	 * @param subresource 하위 리소스 이름 (예: log)
+	 * @return API 경로
+	 * @throws CustomException 네임스페이스 또는 리소스 이름이 RFC 1123 형식이 아닌 경우
+	 */
+	public static String subresourcePath(Class<? extends HasMetadata> type, String namespace, String name,
+			String subresource) {
+		if (name == null || name.length() > MAX_SUBDOMAIN_LENGTH || !DNS_SUBDOMAIN.matcher(name).matches()) {
+			throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "name", name,
+				"리소스 이름은 RFC 1123 subdomain 형식이어야 합니다.");
+		}
+		return resourcePath(type, namespace) + '/' + name + '/' + subresource;
+	}
+
+	private static String buildUrl(String masterUrl, String path, Map<String, String> query) {
+		StringBuilder url = new StringBuilder(masterUrl.endsWith("/")
+			? masterUrl.substring(0, masterUrl.length() - 1) : masterUrl);
+		url.append(path);
+
+		char separator = '?';
+		for (Map.Entry<String, String> entry : query.entrySet()) {
+			if (entry.getValue() == null) {
+				continue;
+			}
+			url.append(separator)
+				.append(entry.getKey())
+				.append('=')
+				.append(URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+			separator = '&';
+		}
+		return url.toString();
+	}
+
+	private static String readError(InputStream body) {
+		if (body == null) {
+			return "";
+		}
+		try (InputStream in = body) {
+			byte[] bytes = in.readNBytes(MAX_ERROR_BODY_LENGTH);
+			return new String(bytes, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return e.getMessage();
+		}
+	}
+
+	private static ErrorCode toErrorCode(int status) {
+		return switch (status) {
+			case 400, 410, 422 -> ErrorCode.INVALID_INPUT_VALUE;
+			case 401 -> ErrorCode.ACCESS_DENIED_EXCEPTION;
+			case 403 -> ErrorCode.FORBIDDEN;
+			case 404 -> ErrorCode.NOT_FOUND;
+			default -> ErrorCode.CLUSTER_CONNECTION_FAILED;
+		};
+	}
+}
@@ -0,0 +1,331 @@
+package com.aipaas.anycloud.service.util;
+
+import com.aipaas.anycloud.model.entity.ClusterEntity;
+import com.aipaas.anycloud.model.enums.ResourceType;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * <pre>
+ * ClassName : KubernetesWatchHub
+ * Type : class
+ * Description : 쿠버네티스 리소스 변경 사항을 SSE로 전달하기 위한 클래스입니다.
+ *  - 클러스터/리소스 종류/네임스페이스마다 informer 하나를 두고 모든 구독자에게 이벤트를 나눠 전달
+ *  - 구독 시 현재 목록(SNAPSHOT)을 먼저 보내고 이후 ADDED/MODIFIED/DELETED 이벤트를 전달
+ *  - 구독자가 있는 클러스터의 클라이언트는 유휴 정리 대상이 되지 않도록 주기적으로 사용 시각을 갱신
+ *  - 구독자별 전송 큐가 가득 차면(느린 클라이언트) OVERFLOW 이벤트를 보내고 연결을 종료
+ *  - 마지막 구독자가 빠지면 informer를 중지
+ * Related : KubeServiceImpl, KubernetesClientRegistry
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KubernetesWatchHub {
+
+	private static final String EVENT_SNAPSHOT = "SNAPSHOT";
+	private static final String EVENT_ADDED = "ADDED";
+	private static final String EVENT_MODIFIED = "MODIFIED";
+	private static final String EVENT_DELETED = "DELETED";
+	private static final String EVENT_OVERFLOW = "OVERFLOW";
+
+	private final KubernetesClientRegistry kubernetesClientRegistry;
+	private final KubernetesProperties kubernetesProperties;
+
+	private final Map<String, Feed> feeds = new ConcurrentHashMap<>();
+
+	// 구독자별 전송 루프 실행기 (구독자마다 가상 스레드 하나)
+	private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+	@PostConstruct
+	public void init() {
+		kubernetesClientRegistry.addCloseListener(this::closeCluster);
+	}
+
+	/**
+	 * 리소스 변경 이벤트를 구독합니다.
+	 *
+	 * @param cluster   클러스터 엔티티
+	 * @param type      리소스 종류
+	 * @param namespace 네임스페이스 (클러스터 범위 리소스는 무시)
+	 * @return 이벤트를 전달할 SseEmitter
+	 */
+	public SseEmitter subscribe(ClusterEntity cluster, ResourceType type, String namespace) {
+		KubernetesClient client = kubernetesClientRegistry.getClient(cluster);
+		String targetNamespace = type.isNamespaced() ? namespace : null;
+		String key = cluster.getId() + "/" + type.getKind() + "/" + (targetNamespace == null ? "*" : targetNamespace);
+
+		SseEmitter emitter = new SseEmitter(kubernetesProperties.getWatch().getTimeout());
+		Subscriber subscriber = new Subscriber(emitter, kubernetesProperties.getWatch().getQueueCapacity(),
+			kubernetesProperties.getWatch().getHeartbeatInterval());
+
+		feeds.compute(key, (feedKey, feed) -> {
+			if (feed == null || feed.closed || feed.client != client) {
+				if (feed != null) {
+					feed.close();
+				}
+				feed = new Feed(feedKey, cluster.getId(), client, type.runnableInformer(client, targetNamespace, 0));
+				feed.start();
+			}
+			feed.add(subscriber);
+			return feed;
+		});
+
+		emitter.onCompletion(() -> unsubscribe(key, subscriber));
+		emitter.onTimeout(() -> unsubscribe(key, subscriber));
+		emitter.onError(e -> unsubscribe(key, subscriber));
+		senders.execute(subscriber::drain);
+
+		log.info("New watch subscriber for {}", key);
+		return emitter;
+	}
+
+	/**
+	 * 구독 중인 클러스터의 클라이언트 사용 시각을 갱신합니다.
+	 * 구독 이후에는 REST 호출이 없으므로 갱신하지 않으면 유휴 정리로 클라이언트가 닫히고 모든 구독이 끊어집니다.
+	 */
+	@Scheduled(fixedDelayString = "${kubernetes.client.evict-interval:60000}")
+	public void keepClientsAlive() {
+		feeds.values().stream()
+			.filter(feed -> !feed.closed)
+			.map(feed -> feed.clusterId)
+			.distinct()
+			.forEach(kubernetesClientRegistry::touch);
+	}
+
+	@PreDestroy
+	public void closeAll() {
+		feeds.keySet().forEach(key -> {
+			Feed removed = feeds.remove(key);
+			if (removed != null) {
+				removed.close();
+			}
+		});
+		senders.shutdownNow();
+	}
+
+	private void unsubscribe(String key, Subscriber subscriber) {
+		subscriber.close();
+		feeds.computeIfPresent(key, (feedKey, feed) -> {
+			if (feed.remove(subscriber)) {
+				log.info("No more watch subscribers, stopping informer for {}", feedKey);
+				feed.stop();
+				return null;
+			}
+			return feed;
+		});
+	}
+
+	/**
+	 * 클러스터 클라이언트가 닫히면 해당 클러스터의 구독을 모두 종료합니다. 클라이언트는 재연결하면 됩니다.
+	 */
+	private void closeCluster(String clusterId) {
+		String prefix = clusterId + "/";
+		feeds.keySet().removeIf(key -> {
+			if (!key.startsWith(prefix)) {
+				return false;
+			}
+			Feed feed = feeds.get(key);
+			if (feed != null) {
+				feed.close();
+			}
+			return true;
+		});
+	}
+
+	/**
+	 * 하나의 informer와 그 구독자들을 묶어 관리합니다.
+	 * 이벤트 전달과 구독자 추가를 같은 락으로 묶어, 스냅샷 이후의 이벤트가 빠지지 않도록 합니다.
+	 */
+	private static final class Feed implements ResourceEventHandler<HasMetadata> {
+
+		private final String key;
+		private final String clusterId;
+		private final KubernetesClient client;
+		private final SharedIndexInformer<? extends HasMetadata> informer;
+		private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+		private volatile boolean closed;
+
+		private Feed(String key, String clusterId, KubernetesClient client,
+			SharedIndexInformer<? extends HasMetadata> informer) {
+			this.key = key;
+			this.clusterId = clusterId;
+			this.client = client;
+			this.informer = informer;
+		}
+
+		private void start() {
+			informer.addEventHandler(this);
+			informer.start().whenComplete((ignored, e) -> {
+				if (e != null) {
+					log.warn("Failed to start watch informer for {}: {}", key, e.getMessage());
+					close();
+				}
+			});
+		}
+
+		/**
+		 * 현재 store의 목록을 스냅샷으로 보낸 뒤 구독자로 등록합니다.
+		 * 동기화 전이라도 이미 store에 들어온 객체는 스냅샷에 포함되고, 나머지는 이후 ADDED 이벤트로 전달됩니다.
+		 * store 반영 후 이벤트가 전달되므로 스냅샷에 포함된 객체의 ADDED 이벤트가 중복으로 올 수 있습니다.
+		 */
+		private synchronized void add(Subscriber subscriber) {
+			subscriber.offer(event(EVENT_SNAPSHOT, informer.lastSyncResourceVersion(), informer.getStore().list()));
+			subscribers.add(subscriber);
+		}
+
+		/**
+		 * @return 구독자를 제거한 결과 남은 구독자가 없으면 true
+		 */
+		private synchronized boolean remove(Subscriber subscriber) {
+			return subscribers.remove(subscriber) && subscribers.isEmpty();
+		}
+
+		private void stop() {
+			try {
+				informer.stop();
+			} catch (Exception e) {
+				log.warn("Failed to stop watch informer for {}: {}", key, e.getMessage());
+			}
+		}
+
+		private synchronized void close() {
+			closed = true;
+			stop();
+			subscribers.forEach(Subscriber::close);
+			subscribers.clear();
+		}
+
+		private synchronized void publish(String type, HasMetadata resource) {
+			for (Subscriber subscriber : subscribers) {
+				subscriber.offer(event(type, resource.getMetadata().getResourceVersion(), resource));
+			}
+		}
+
+		private static SseEventBuilder event(String type, String resourceVersion, Object data) {
+			SseEventBuilder event = SseEmitter.event().name(type);
+			if (resourceVersion != null) {
+				event.id(resourceVersion);
+			}
+			return event.data(data, MediaType.APPLICATION_JSON);
+		}
+
+		@Override
+		public void onAdd(HasMetadata obj) {
+			publish(EVENT_ADDED, obj);
+		}
+
+		@Override
+		public void onUpdate(HasMetadata oldObj, HasMetadata newObj) {
+			// resync로 인한 동일 버전 업데이트는 전달하지 않는다
+			if (oldObj != null && oldObj.getMetadata().getResourceVersion() != null
+				&& oldObj.getMetadata().getResourceVersion().equals(newObj.getMetadata().getResourceVersion())) {
+				return;
+			}
+			publish(EVENT_MODIFIED, newObj);
+		}
+
+		@Override
+		public void onDelete(HasMetadata obj, boolean deletedFinalStateUnknown) {
+			publish(EVENT_DELETED, obj);
+		}
+	}
+
+	/**
+	 * 구독자 하나의 전송 큐와 전송 루프입니다.
+	 */
+	private static final class Subscriber {
+
+		private static final SseEventBuilder CLOSE = SseEmitter.event();
+
+		private final SseEmitter emitter;
+		private final BlockingQueue<SseEventBuilder> queue;
+		private final long heartbeatInterval;
+		private volatile boolean closed;
+
+		private Subscriber(SseEmitter emitter, int capacity, long heartbeatInterval) {
+			this.emitter = emitter;
+			// OVERFLOW, CLOSE 이벤트를 넣을 자리를 남겨둔다
+			this.queue = new ArrayBlockingQueue<>(capacity + 2);
+			this.heartbeatInterval = heartbeatInterval;
+		}
+
+		private void offer(SseEventBuilder event) {
+			if (closed) {
+				return;
+			}
+			if (queue.remainingCapacity() <= 2 || !queue.offer(event)) {
+				overflow();
+			}
+		}
+
+		/**
+		 * 전송이 밀린 구독자는 남은 이벤트를 버리고 OVERFLOW 이벤트를 보낸 뒤 연결을 종료합니다.
+		 */
+		private synchronized void overflow() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			queue.clear();
+			queue.offer(SseEmitter.event().name(EVENT_OVERFLOW).data("subscriber is too slow, reconnect to resync"));
+			queue.offer(CLOSE);
+		}
+
+		private synchronized void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			queue.clear();
+			queue.offer(CLOSE);
+		}
+
+		private void drain() {
+			try {
+				while (true) {
+					SseEventBuilder event = queue.poll(heartbeatInterval, TimeUnit.MILLISECONDS);
+					if (event == CLOSE) {
+						emitter.complete();
+						return;
+					}
+					if (event == null) {
+						if (closed) {
+							return;
+						}
+						event = SseEmitter.event().comment("heartbeat");
+					}
+					emitter.send(event);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				emitter.complete();
+			} catch (Exception e) {
+				// 클라이언트 연결이 끊어진 경우
+				closed = true;
+				queue.clear();
+				emitter.completeWithError(e);
+			}
+		}
+	}
+}
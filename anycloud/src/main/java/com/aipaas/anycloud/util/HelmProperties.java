@@ -0,0 +1,66 @@
+package com.aipaas.anycloud.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : HelmProperties
+ * Type : class
+ * Description : Helm CLI 연동과 관련된 설정 값을 바인딩하는 클래스입니다.
+ * Related : HelmRepositoryManager, HelmIndexCache, ChartSearchIndex
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "helm")
+public class HelmProperties {
+
+	private Repository repository = new Repository();
+
+	private Index index = new Index();
+
+	private Search search = new Search();
+
+	@Getter
+	@Setter
+	public static class Repository {
+
+		// 저장소별 repositories.yaml, index 캐시를 보관하는 디렉터리
+		private String baseDir = System.getProperty("java.io.tmpdir") + "/anycloud-helm";
+
+		// 저장소 index 갱신(helm repo update) 주기 (ms)
+		private long refreshInterval = 1800000;
+
+		// helm repo add/update 명령 제한 시간 (ms)
+		private long commandTimeout = 60000;
+	}
+
+	@Getter
+	@Setter
+	public static class Index {
+
+		// 저장소 index.yaml 캐시 유지 시간 (ms), 지나면 조건부 요청(If-None-Match/If-Modified-Since)으로 변경 여부 확인
+		private long ttl = 300000;
+
+		// index.yaml 등 YAML 문서 하나에서 읽을 수 있는 최대 문자(code point) 수
+		private int codePointLimit = 64 * 1024 * 1024;
+	}
+
+	@Getter
+	@Setter
+	public static class Search {
+
+		// 차트 검색 페이지 크기 기본값
+		private int defaultSize = 20;
+
+		// 차트 검색 페이지 크기 최대값
+		private int maxSize = 100;
+
+		// 차트 검색 색인 갱신 주기 (ms), 저장소 index는 helm.index.ttl이 지난 경우에만 다시 확인
+		private long refreshInterval = 60000;
+	}
+}
@@ -0,0 +1,168 @@
+package com.aipaas.anycloud.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <pre>
+ * ClassName : KubernetesFieldFilter
+ * Type : class
+ * Description : 쿠버네티스 리소스를 직렬화하는 시점에 불필요한 필드를 제외하는 Jackson 필터입니다.
+ *  - metadata.managedFields, last-applied-configuration 어노테이션은 항상 제외
+ *  - fields 파라미터(예: metadata.name,status.phase)가 주어지면 해당 경로만 직렬화
+ *  - 객체를 복사하지 않고 JsonGenerator의 출력 위치로 현재 경로를 계산
+ * Related : BeanConfig, KubeController
+ * </pre>
+ */
+public class KubernetesFieldFilter extends SimpleBeanPropertyFilter {
+
+	public static final String FILTER_ID = "kubernetesFieldFilter";
+
+	private static final String MODEL_PACKAGE = "io.fabric8.kubernetes.api.model";
+	private static final String MANAGED_FIELDS = "managedFields";
+	private static final String ANNOTATIONS = "annotations";
+	private static final String LAST_APPLIED_CONFIGURATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+	private static final KubernetesFieldFilter DEFAULT = new KubernetesFieldFilter(null, null);
+
+	// 요청된 경로 (null이면 전체 직렬화)
+	private final Set<String> fields;
+
+	// 요청된 경로의 상위 경로 (예: metadata.name → metadata)
+	private final Set<String> ancestors;
+
+	private KubernetesFieldFilter(Set<String> fields, Set<String> ancestors) {
+		this.fields = fields;
+		this.ancestors = ancestors;
+	}
+
+	/**
+	 * fields 파라미터로 필터를 생성합니다.
+	 *
+	 * @param fields 쉼표로 구분된 JSON 경로 (비어 있으면 기본 필드 제외만 적용)
+	 * @return 필터
+	 */
+	public static KubernetesFieldFilter of(String fields) {
+		if (fields == null || fields.isBlank()) {
+			return DEFAULT;
+		}
+		Set<String> paths = new HashSet<>();
+		Set<String> ancestors = new HashSet<>();
+		for (String field : fields.split(",")) {
+			String path = field.trim();
+			if (path.isEmpty()) {
+				continue;
+			}
+			paths.add(path);
+			for (int i = path.indexOf('.'); i > 0; i = path.indexOf('.', i + 1)) {
+				ancestors.add(path.substring(0, i));
+			}
+		}
+		return paths.isEmpty() ? DEFAULT : new KubernetesFieldFilter(paths, ancestors);
+	}
+
+	/**
+	 * fields 파라미터에 해당하는 FilterProvider를 생성합니다.
+	 */
+	public static FilterProvider provider(String fields) {
+		return new SimpleFilterProvider()
+			.addFilter(FILTER_ID, of(fields))
+			.setFailOnUnknownId(false);
+	}
+
+	/**
+	 * fabric8 모델 클래스에 필터를 연결하는 AnnotationIntrospector를 생성합니다.
+	 */
+	public static AnnotationIntrospector introspector() {
+		return new JacksonAnnotationIntrospector() {
+			@Override
+			public Object findFilterId(Annotated a) {
+				Object id = super.findFilterId(a);
+				if (id == null && a instanceof AnnotatedClass
+					&& a.getRawType().getName().startsWith(MODEL_PACKAGE)) {
+					return FILTER_ID;
+				}
+				return id;
+			}
+		};
+	}
+
+	@Override
+	public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+		PropertyWriter writer) throws Exception {
+		String name = writer.getName();
+		if (fields != null && !isIncluded(path(gen, name))) {
+			return;
+		}
+		if (pojo instanceof ObjectMeta meta) {
+			if (MANAGED_FIELDS.equals(name)) {
+				return;
+			}
+			if (ANNOTATIONS.equals(name) && meta.getAnnotations() != null
+				&& meta.getAnnotations().containsKey(LAST_APPLIED_CONFIGURATION)) {
+				writeAnnotations(meta.getAnnotations(), gen);
+				return;
+			}
+		}
+		writer.serializeAsField(pojo, gen, provider);
+	}
+
+	private boolean isIncluded(String path) {
+		if (fields.contains(path) || ancestors.contains(path)) {
+			return true;
+		}
+		// 요청된 경로의 하위 필드는 모두 포함
+		for (int i = path.lastIndexOf('.'); i > 0; i = path.lastIndexOf('.', i - 1)) {
+			if (fields.contains(path.substring(0, i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 현재 출력 위치의 상위 필드 이름으로 경로를 계산합니다.
+	 * 배열 인덱스는 경로에 포함하지 않으며, 리소스를 감싸는 응답 DTO의 필드 이름도 제외합니다.
+	 */
+	private static String path(JsonGenerator gen, String name) {
+		StringBuilder path = new StringBuilder(name);
+		for (JsonStreamContext ctx = gen.getOutputContext().getParent(); ctx != null; ctx = ctx.getParent()) {
+			if (!ctx.inObject()) {
+				continue;
+			}
+			Object value = ctx.getCurrentValue();
+			if (value == null || !value.getClass().getName().startsWith(MODEL_PACKAGE)) {
+				break;
+			}
+			if (ctx.getCurrentName() != null) {
+				path.insert(0, '.').insert(0, ctx.getCurrentName());
+			}
+		}
+		return path.toString();
+	}
+
+	private static void writeAnnotations(Map<String, String> annotations, JsonGenerator gen)
+		throws Exception {
+		gen.writeFieldName(ANNOTATIONS);
+		gen.writeStartObject();
+		for (Map.Entry<String, String> entry : annotations.entrySet()) {
+			if (!LAST_APPLIED_CONFIGURATION.equals(entry.getKey())) {
+				gen.writeStringField(entry.getKey(), entry.getValue());
+			}
+		}
+		gen.writeEndObject();
+	}
+}
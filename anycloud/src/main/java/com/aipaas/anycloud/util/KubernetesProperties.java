@@ -0,0 +1,211 @@
+package com.aipaas.anycloud.util;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ * ClassName : KubernetesProperties
+ * Type : class
+ * Description : 쿠버네티스 클라이언트 연동과 관련된 설정 값을 바인딩하는 클래스입니다.
+ * Related : KubernetesClientRegistry, KubernetesInformerCache
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kubernetes")
+public class KubernetesProperties {
+
+	private Client client = new Client();
+
+	private Informer informer = new Informer();
+
+	private Stream stream = new Stream();
+
+	private Fleet fleet = new Fleet();
+
+	private Watch watch = new Watch();
+
+	private BulkDelete bulkDelete = new BulkDelete();
+
+	private Batch batch = new Batch();
+
+	private Discovery discovery = new Discovery();
+
+	private Logs logs = new Logs();
+
+	private StatusSweep statusSweep = new StatusSweep();
+
+	private Health health = new Health();
+
+	private Coordination coordination = new Coordination();
+
+	private ClusterCache clusterCache = new ClusterCache();
+
+	@Getter
+	@Setter
+	public static class Client {
+
+		// 마지막 사용 이후 클라이언트를 유지하는 시간 (ms)
+		private long idleTimeout = 600000;
+
+		// 유휴 클라이언트 정리 주기 (ms)
+		private long evictInterval = 60000;
+	}
+
+	@Getter
+	@Setter
+	public static class Informer {
+
+		// informer 기반 조회 캐시 사용 여부
+		private boolean enabled = false;
+
+		// 마지막 조회 이후 informer를 유지하는 시간 (ms)
+		private long idleTimeout = 300000;
+
+		// 유휴 informer 정리 주기 (ms)
+		private long evictInterval = 60000;
+
+		// informer resync 주기 (ms, 0이면 resync 하지 않음)
+		private long resyncPeriod = 0;
+	}
+
+	@Getter
+	@Setter
+	public static class Stream {
+
+		// 스트리밍 조회 시 API 서버에서 한 번에 가져오는 항목 수
+		private long pageSize = 500;
+	}
+
+	@Getter
+	@Setter
+	public static class Fleet {
+
+		// 멀티 클러스터 조회 시 클러스터별 응답 대기 시간 (ms)
+		private long timeout = 10000;
+	}
+
+	@Getter
+	@Setter
+	public static class Watch {
+
+		// SSE 연결 유지 시간 (ms)
+		private long timeout = 1800000;
+
+		// 구독자별로 전송 대기할 수 있는 최대 이벤트 수 (초과 시 연결 종료)
+		private int queueCapacity = 1000;
+
+		// 전송할 이벤트가 없을 때 heartbeat를 보내는 주기 (ms)
+		private long heartbeatInterval = 15000;
+	}
+
+	@Getter
+	@Setter
+	public static class BulkDelete {
+
+		// 항목별 일괄 삭제 시 동시에 보내는 삭제 요청 수
+		private int parallelism = 10;
+	}
+
+	@Getter
+	@Setter
+	public static class Batch {
+
+		// 여러 종류 리소스 일괄 조회 시 전체 응답 대기 시간 (ms)
+		private long timeout = 10000;
+	}
+
+	@Getter
+	@Setter
+	public static class Discovery {
+
+		// 클러스터 API discovery 결과를 유지하는 시간 (ms)
+		private long ttl = 600000;
+
+		// 찾을 수 없는 리소스 요청 시 discovery를 다시 조회하기 위한 최소 간격 (ms)
+		private long missRefreshInterval = 30000;
+	}
+
+	@Getter
+	@Setter
+	public static class Logs {
+
+		// 클러스터별 동시에 유지할 수 있는 실시간(follow) 로그 스트림 수
+		private int maxFollowersPerCluster = 20;
+
+		// 실시간(follow) 로그 스트림 최대 유지 시간 (ms, spring.mvc.async.request-timeout 이하로 설정)
+		private long followTimeout = 300000;
+	}
+
+	@Getter
+	@Setter
+	public static class StatusSweep {
+
+		// 주기적인 클러스터 상태 점검 사용 여부
+		private boolean enabled = false;
+
+		// 점검 대상 확인 주기 (ms, 이전 점검이 끝난 시점부터 계산, 클러스터별 점검 간격은 health 설정을 따름)
+		private long interval = 30000;
+
+		// 동시에 점검하는 클러스터 수
+		private int parallelism = 16;
+	}
+
+	@Getter
+	@Setter
+	public static class Health {
+
+		// /readyz, /version 호출 제한 시간 (ms)
+		private long timeout = 3000;
+
+		// 정상 클러스터 점검 간격 (ms)
+		private long interval = 300000;
+
+		// 응답하지 않는 클러스터의 첫 재점검 간격 (ms, 실패가 이어지면 두 배씩 증가)
+		private long initialBackoff = 30000;
+
+		// 응답하지 않는 클러스터의 최대 재점검 간격 (ms)
+		private long maxBackoff = 1800000;
+
+		// 연결 테스트에서 마지막 점검 결과를 재사용하는 시간 (ms)
+		private long cacheTtl = 10000;
+
+		// 클러스터별로 메모리에 보관하는 상태 변경 이력 수
+		private int historySize = 100;
+
+		// 클러스터별로 통계 계산을 위해 보관하는 점검 결과 수
+		private int statsCapacity = 2880;
+	}
+
+	@Getter
+	@Setter
+	public static class Coordination {
+
+		// 여러 인스턴스가 클러스터 상태 점검을 나눠 수행할지 여부
+		private boolean enabled = false;
+
+		// heartbeat 기록 주기 (ms)
+		private long heartbeatInterval = 10000;
+
+		// 마지막 heartbeat 이후 인스턴스를 살아 있다고 보는 시간 (ms)
+		private long memberTtl = 30000;
+
+		// 인스턴스별 hash ring 가상 노드 수
+		private int virtualNodes = 64;
+	}
+
+	@Getter
+	@Setter
+	public static class ClusterCache {
+
+		// 클러스터 엔티티 캐시 유지 시간 (ms), 다른 인스턴스의 수정 사항이 반영되는 최대 지연
+		private long ttl = 60000;
+
+		// 캐시에 보관하는 최대 클러스터 수
+		private long maximumSize = 1000;
+	}
+}
@@ -0,0 +1,128 @@
+package com.aipaas.anycloud.configuration.bean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aipaas.anycloud.model.entity.ClusterEntity;
+import com.aipaas.anycloud.repository.ClusterRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * <pre>
+ * ClassName : DataSourceConfigTest
+ * Type : class
+ * Description : 서로 다른 H2 DB를 primary/replica로 설정하여 트랜잭션 종류별로 연결되는 DB를 확인하는 테스트입니다.
+ *  - 각 DB의 route_marker 테이블에 DB 이름을 기록해 두고, 라우팅 DataSource로 조회한 값으로 연결된 DB를 판단
+ *  - 엔티티 테이블은 primary에만 생성되므로 replica로 연결된 JPA 조회는 실패
+ * Related : DataSourceConfig, ClusterRepository
+ * </pre>
+ */
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:primary;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+	"spring.datasource.replica.url=jdbc:h2:mem:replica;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 테스트 메서드가 트랜잭션 밖에서 실행되어야 라우팅 조건을 직접 지정할 수 있음
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DataSourceConfigTest {
+
+	private static final String ROUTE_QUERY = "SELECT name FROM route_marker";
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private HikariDataSource primaryDataSource;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private HikariDataSource replicaDataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ClusterRepository clusterRepository;
+
+	@BeforeEach
+	void createMarkers() {
+		mark(primaryDataSource, "primary");
+		mark(replicaDataSource, "replica");
+	}
+
+	@AfterEach
+	void cleanUp() {
+		clusterRepository.deleteAll();
+	}
+
+	@Test
+	void readOnlyTransactionUsesReplica() {
+		assertThat(route(true)).isEqualTo("replica");
+	}
+
+	@Test
+	void readWriteTransactionUsesPrimary() {
+		assertThat(route(false)).isEqualTo("primary");
+	}
+
+	@Test
+	void queryOutsideTransactionUsesPrimary() {
+		assertThat(new JdbcTemplate(dataSource).queryForObject(ROUTE_QUERY, String.class)).isEqualTo("primary");
+	}
+
+	@Test
+	void writesAndFindByIdUsePrimary() {
+		clusterRepository.save(ClusterEntity.builder()
+			.id("route-test")
+			.apiServerUrl("https://127.0.0.1:6443")
+			.serverCa("ca")
+			.clusterType("kubernetes")
+			.clusterProvider("test")
+			.build());
+
+		Integer count = new JdbcTemplate(primaryDataSource)
+			.queryForObject("SELECT COUNT(*) FROM aipaas.cluster WHERE id = 'route-test'", Integer.class);
+		assertThat(count).isEqualTo(1);
+		// replica에는 cluster 테이블이 없으므로 replica로 연결되면 조회가 실패
+		assertThat(clusterRepository.findById("route-test")).isPresent();
+	}
+
+	private String route(boolean readOnly) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(readOnly);
+		return transaction.execute(status -> new JdbcTemplate(dataSource).queryForObject(ROUTE_QUERY, String.class));
+	}
+
+	private static void mark(DataSource target, String name) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(target);
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS route_marker (name VARCHAR(20))");
+		jdbcTemplate.update("DELETE FROM route_marker");
+		jdbcTemplate.update("INSERT INTO route_marker (name) VALUES (?)", name);
+	}
+
+	@Configuration
+	@Import(DataSourceConfig.class)
+	@EntityScan(basePackageClasses = ClusterEntity.class)
+	@EnableJpaRepositories(basePackageClasses = ClusterRepository.class)
+	static class TestConfig {
+	}
+}
@@ -0,0 +1,107 @@
+package com.aipaas.anycloud.service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aipaas.anycloud.model.entity.SchedulerMemberEntity;
+import com.aipaas.anycloud.repository.SchedulerMemberRepository;
+import com.aipaas.anycloud.util.KubernetesProperties;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <pre>
+ * ClassName : ClusterShardCoordinatorTest
+ * Type : class
+ * Description : H2(MariaDB 모드)에서 heartbeat가 끊긴 인스턴스의 담당 클러스터가 남은 인스턴스로 넘어가는지 확인하는 테스트입니다.
+ * Related : ClusterShardCoordinator, SchedulerMemberRepository
+ * </pre>
+ */
+@DataJpaTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:coordinator;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// H2는 트랜잭션 안에서 CURRENT_TIMESTAMP가 고정되므로 heartbeat마다 별도 트랜잭션으로 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ClusterShardCoordinatorTest {
+
+	private static final long MEMBER_TTL = 1000;
+
+	private static final List<String> CLUSTER_IDS = IntStream.range(0, 200)
+		.mapToObj(i -> "cluster-" + i)
+		.toList();
+
+	@Autowired
+	private SchedulerMemberRepository schedulerMemberRepository;
+
+	@AfterEach
+	void cleanUp() {
+		schedulerMemberRepository.deleteAll();
+	}
+
+	@Test
+	void deadMemberClustersMoveToSurvivors() throws InterruptedException {
+		KubernetesProperties properties = new KubernetesProperties();
+		properties.getCoordination().setEnabled(true);
+		properties.getCoordination().setMemberTtl(MEMBER_TTL);
+
+		ClusterShardCoordinator first = new ClusterShardCoordinator(schedulerMemberRepository, properties);
+		ClusterShardCoordinator second = new ClusterShardCoordinator(schedulerMemberRepository, properties);
+		ClusterShardCoordinator dead = new ClusterShardCoordinator(schedulerMemberRepository, properties);
+
+		first.heartbeat();
+		second.heartbeat();
+		dead.heartbeat();
+		// 먼저 기록한 인스턴스도 나머지 인스턴스를 ring에 포함하도록 한 번 더 기록
+		first.heartbeat();
+		second.heartbeat();
+
+		List<ClusterShardCoordinator> all = List.of(first, second, dead);
+		for (String clusterId : CLUSTER_IDS) {
+			assertThat(all.stream().filter(coordinator -> coordinator.owns(clusterId))).hasSize(1);
+		}
+		List<String> deadClusters = CLUSTER_IDS.stream().filter(dead::owns).toList();
+		List<String> firstClusters = CLUSTER_IDS.stream().filter(first::owns).toList();
+		List<String> secondClusters = CLUSTER_IDS.stream().filter(second::owns).toList();
+		assertThat(deadClusters).isNotEmpty();
+
+		// dead 인스턴스는 heartbeat를 멈추고, 나머지는 TTL이 지나는 동안 계속 기록
+		for (int i = 0; i < 3; i++) {
+			Thread.sleep(MEMBER_TTL / 2);
+			first.heartbeat();
+			second.heartbeat();
+		}
+
+		assertThat(schedulerMemberRepository.findAll())
+			.extracting(SchedulerMemberEntity::getId)
+			.containsExactlyInAnyOrder(first.getMemberId(), second.getMemberId());
+		for (String clusterId : CLUSTER_IDS) {
+			assertThat(first.owns(clusterId) ^ second.owns(clusterId)).isTrue();
+			assertThat(dead.owns(clusterId)).isFalse();
+		}
+		// 살아 있는 인스턴스의 기존 담당은 유지되고, 끊긴 인스턴스 몫만 재분배
+		assertThat(firstClusters).allMatch(first::owns);
+		assertThat(secondClusters).allMatch(second::owns);
+	}
+
+	@Configuration
+	@EntityScan(basePackageClasses = SchedulerMemberEntity.class)
+	@EnableJpaRepositories(
+		basePackageClasses = SchedulerMemberRepository.class,
+		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SchedulerMemberRepository.class))
+	static class TestConfig {
+	}
+}
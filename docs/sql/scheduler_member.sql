@@ -0,0 +1,10 @@
+-- 클러스터 상태 점검 분산(kubernetes.coordination.enabled=true)에 사용하는 인스턴스 heartbeat 테이블
+-- spring.jpa.hibernate.ddl-auto=none 이므로 기능을 켜기 전에 직접 생성해야 합니다.
+-- heartbeat_at은 인스턴스 시계가 아닌 DB 시각(CURRENT_TIMESTAMP)으로 기록하고, 만료 기준도 DB가 기록한 시각으로 계산합니다.
+CREATE TABLE IF NOT EXISTS aipaas.scheduler_member (
+    id           VARCHAR(100) NOT NULL,
+    started_at   DATETIME(3)  NOT NULL,
+    heartbeat_at DATETIME(3)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_scheduler_member_heartbeat_at (heartbeat_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;